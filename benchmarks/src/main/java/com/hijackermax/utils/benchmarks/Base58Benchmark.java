@@ -0,0 +1,59 @@
+package com.hijackermax.utils.benchmarks;
+
+import com.hijackermax.utils.encoders.Base58;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of Base58, kept apart from block codecs because whole-number conversion is superlinear
+ * and multi-megabyte payloads are out of its practical range
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Base58Benchmark {
+    @Param({"16", "256", "1024", "16384", "65536"})
+    private int size;
+
+    @Param({"RANDOM", "ZERO_HEAVY", "ASCII"})
+    private PayloadShape shape;
+
+    private byte[] payload;
+    private String encodedPayload;
+
+    @Setup
+    public void setUp() {
+        payload = shape.generate(size);
+        payload[0] = (byte) 0xFF;
+        encodedPayload = Base58.encode(payload);
+    }
+
+    @Benchmark
+    public String encode() {
+        return Base58.encode(payload);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return Base58.decode(encodedPayload);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return Base58.isValid(encodedPayload);
+    }
+}
@@ -0,0 +1,61 @@
+package com.hijackermax.utils.benchmarks;
+
+import com.hijackermax.utils.lang.CollectionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of collections intersection with list and set right-hand collections
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionUtilsBenchmark {
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private List<Integer> left;
+    private List<Integer> rightList;
+    private Set<Integer> rightSet;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        left = new ArrayList<>(size);
+        rightList = new ArrayList<>(size);
+        for (int idx = 0; idx < size; idx++) {
+            left.add(random.nextInt(size * 2));
+            rightList.add(random.nextInt(size * 2));
+        }
+        rightSet = new HashSet<>(rightList);
+    }
+
+    @Benchmark
+    public List<Integer> intersectionWithList() {
+        return CollectionUtils.intersection(left, rightList);
+    }
+
+    @Benchmark
+    public List<Integer> intersectionWithSet() {
+        return CollectionUtils.intersection(left, rightSet);
+    }
+}
@@ -0,0 +1,53 @@
+package com.hijackermax.utils.benchmarks;
+
+import com.hijackermax.utils.lang.ObjectUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of GZIP compression with Base64 encoding
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CompressionBenchmark {
+    @Param({"16", "1024", "65536", "1048576", "16777216"})
+    private int size;
+
+    @Param({"RANDOM", "ZERO_HEAVY", "ASCII"})
+    private PayloadShape shape;
+
+    private byte[] payload;
+    private String compressedPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = shape.generate(size);
+        compressedPayload = ObjectUtils.compress(payload);
+    }
+
+    @Benchmark
+    public String compress() throws IOException {
+        return ObjectUtils.compress(payload);
+    }
+
+    @Benchmark
+    public byte[] decompress() throws IOException {
+        return ObjectUtils.decompress(compressedPayload);
+    }
+}
@@ -0,0 +1,58 @@
+package com.hijackermax.utils.benchmarks;
+
+import com.hijackermax.utils.encoders.BinaryTextCodec;
+import com.hijackermax.utils.encoders.Codecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of block based binary-to-text codecs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EncodersBenchmark {
+    @Param({"base32", "base64", "base85", "base122"})
+    private String codecName;
+
+    @Param({"16", "1024", "65536", "1048576", "16777216"})
+    private int size;
+
+    @Param({"RANDOM", "ZERO_HEAVY", "ASCII"})
+    private PayloadShape shape;
+
+    private BinaryTextCodec codec;
+    private byte[] payload;
+    private String encodedPayload;
+
+    @Setup
+    public void setUp() {
+        codec = Codecs.forName(codecName);
+        payload = shape.generate(size);
+        encodedPayload = codec.encode(payload);
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(payload);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return codec.decode(encodedPayload);
+    }
+}
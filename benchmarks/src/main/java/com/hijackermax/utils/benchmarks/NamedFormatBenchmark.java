@@ -0,0 +1,62 @@
+package com.hijackermax.utils.benchmarks;
+
+import com.hijackermax.utils.lang.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of named format rendering for templates with plain, defaulted and formatted tokens
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NamedFormatBenchmark {
+    @Param({"1", "10", "100"})
+    private int tokensCount;
+
+    private String template;
+    private Map<String, Object> values;
+
+    @Setup
+    public void setUp() {
+        StringBuilder templateBuilder = new StringBuilder();
+        values = new HashMap<>();
+        for (int idx = 0; idx < tokensCount; idx++) {
+            templateBuilder.append("Some literal text before token ");
+            switch (idx % 3) {
+                case 0:
+                    templateBuilder.append("${key").append(idx).append('}');
+                    values.put("key" + idx, "value" + idx);
+                    break;
+                case 1:
+                    templateBuilder.append("${missing").append(idx).append("?`default value`}");
+                    break;
+                default:
+                    templateBuilder.append("${number").append(idx).append("%x}");
+                    values.put("number" + idx, idx * 1024);
+            }
+        }
+        template = templateBuilder.toString();
+    }
+
+    @Benchmark
+    public String namedFormat() {
+        return StringUtils.namedFormat(template, values);
+    }
+}
@@ -0,0 +1,69 @@
+package com.hijackermax.utils.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Shapes of generated benchmark payloads
+ */
+public enum PayloadShape {
+    /**
+     * Uniformly distributed random bytes, incompressible
+     */
+    RANDOM {
+        @Override
+        byte[] generate(int size, Random random) {
+            byte[] result = new byte[size];
+            random.nextBytes(result);
+            return result;
+        }
+    },
+    /**
+     * Mostly zero bytes with sparse random values
+     */
+    ZERO_HEAVY {
+        @Override
+        byte[] generate(int size, Random random) {
+            byte[] result = new byte[size];
+            for (int idx = 0; idx < size; idx += 1 + random.nextInt(16)) {
+                result[idx] = (byte) random.nextInt(256);
+            }
+            return result;
+        }
+    },
+    /**
+     * Printable ASCII text made of words and spaces
+     */
+    ASCII {
+        @Override
+        byte[] generate(int size, Random random) {
+            byte[] result = new byte[size];
+            for (int idx = 0; idx < size; idx++) {
+                result[idx] = 0 == random.nextInt(6) ? (byte) ' ' : WORD_CHARS[random.nextInt(WORD_CHARS.length)];
+            }
+            return result;
+        }
+    };
+
+    private static final byte[] WORD_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789,.:\"{}"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Generates payload of provided size, the same seed always provides the same payload
+     *
+     * @param size   payload size in bytes
+     * @param random source of randomness
+     * @return generated payload
+     */
+    abstract byte[] generate(int size, Random random);
+
+    /**
+     * Generates payload of provided size with fixed seed
+     *
+     * @param size payload size in bytes
+     * @return generated payload
+     */
+    public byte[] generate(int size) {
+        return generate(size, new Random(size));
+    }
+}
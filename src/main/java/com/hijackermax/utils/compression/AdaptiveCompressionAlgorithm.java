@@ -0,0 +1,226 @@
+package com.hijackermax.utils.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.ZipException;
+
+/**
+ * {@link CompressionAlgorithm} that stores inputs as is when compression would not pay off and compresses other
+ * inputs with delegate algorithm. Inputs shorter than minimal length are stored without compression attempt,
+ * longer inputs are stored if Shannon entropy of their prefix sample exceeds provided limit or if delegate output
+ * is not shorter than stored data. Produced data starts with {@link CompressionAlgorithms#STORED_TAG} or delegate
+ * format tag, so it can be decompressed with {@link CompressionAlgorithms#decompress(byte[])} as well.
+ * Instances collect metrics of processed bytes and time spent on compression.
+ *
+ * @since 0.1.4
+ */
+public final class AdaptiveCompressionAlgorithm implements CompressionAlgorithm {
+    /**
+     * Default minimal input length that can be compressed
+     */
+    public static final int DEFAULT_MIN_LENGTH = 64;
+
+    /**
+     * Default length of input prefix used for entropy estimation
+     */
+    public static final int DEFAULT_SAMPLE_LENGTH = 4096;
+
+    /**
+     * Default maximal entropy of input prefix in bits per byte, inputs with higher entropy are stored as is
+     */
+    public static final double DEFAULT_MAX_ENTROPY = 7.5;
+
+    private static final double LOG_2 = Math.log(2);
+
+    private final CompressionAlgorithm delegate;
+    private final int minLength;
+    private final int sampleLength;
+    private final double maxEntropy;
+    private final LongAdder compressedCount = new LongAdder();
+    private final LongAdder storedCount = new LongAdder();
+    private final LongAdder inputBytes = new LongAdder();
+    private final LongAdder outputBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+
+    /**
+     * Creates adaptive algorithm with default minimal length, sample length and maximal entropy
+     *
+     * @param delegate {@link CompressionAlgorithm} that should be used for compressible inputs
+     * @since 0.1.4
+     */
+    public AdaptiveCompressionAlgorithm(CompressionAlgorithm delegate) {
+        this(delegate, DEFAULT_MIN_LENGTH, DEFAULT_SAMPLE_LENGTH, DEFAULT_MAX_ENTROPY);
+    }
+
+    /**
+     * Creates adaptive algorithm with provided settings
+     *
+     * @param delegate     {@link CompressionAlgorithm} that should be used for compressible inputs
+     * @param minLength    inputs shorter than this length are stored as is
+     * @param sampleLength length of input prefix used for entropy estimation
+     * @param maxEntropy   maximal prefix entropy in bits per byte, from 0 to 8, inputs with higher entropy are stored as is
+     * @throws IllegalArgumentException if minimal length is negative, sample length is not positive
+     *                                  or maximal entropy is out of range
+     * @since 0.1.4
+     */
+    public AdaptiveCompressionAlgorithm(CompressionAlgorithm delegate, int minLength, int sampleLength, double maxEntropy) {
+        if (minLength < 0) {
+            throw new IllegalArgumentException("Minimal length cannot be negative");
+        }
+        if (sampleLength <= 0) {
+            throw new IllegalArgumentException("Sample length should be positive");
+        }
+        if (!(maxEntropy >= 0 && maxEntropy <= 8)) {
+            throw new IllegalArgumentException("Maximal entropy should be in range from 0 to 8 bits per byte");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.minLength = minLength;
+        this.sampleLength = sampleLength;
+        this.maxEntropy = maxEntropy;
+    }
+
+    /**
+     * Estimates Shannon entropy of provided byte array range
+     *
+     * @param source byte array
+     * @param offset start of range
+     * @param length length of range
+     * @return entropy in bits per byte, from 0 to 8
+     * @since 0.1.4
+     */
+    public static double entropy(byte[] source, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        if (0 == length) {
+            return 0;
+        }
+        int[] counts = new int[256];
+        for (int idx = offset, end = offset + length; idx < end; idx++) {
+            counts[source[idx] & 0xff]++;
+        }
+        double sum = 0;
+        for (int count : counts) {
+            if (0 != count) {
+                sum += count * Math.log(count);
+            }
+        }
+        return (Math.log(length) - sum / length) / LOG_2;
+    }
+
+    @Override
+    public String name() {
+        return "adaptive-" + delegate.name();
+    }
+
+    /**
+     * Returns delegate format tag, data with {@link CompressionAlgorithms#STORED_TAG} can be produced as well
+     *
+     * @return delegate format tag byte
+     */
+    @Override
+    public byte tag() {
+        return delegate.tag();
+    }
+
+    @Override
+    public byte[] compress(byte[] source) {
+        long start = System.nanoTime();
+        byte[] result = null;
+        if (source.length >= minLength && entropy(source, 0, Math.min(sampleLength, source.length)) <= maxEntropy) {
+            result = delegate.compress(source);
+            if (result.length > source.length) {
+                result = null;
+            }
+        }
+        if (null == result) {
+            result = CompressionAlgorithms.STORED.compress(source);
+            storedCount.increment();
+        } else {
+            compressedCount.increment();
+        }
+        compressionNanos.add(System.nanoTime() - start);
+        inputBytes.add(source.length);
+        outputBytes.add(result.length);
+        return result;
+    }
+
+    @Override
+    public byte[] decompress(byte[] source) throws IOException {
+        return decompress(source, DecompressionLimits.UNLIMITED);
+    }
+
+    @Override
+    public byte[] decompress(byte[] source, DecompressionLimits limits) throws IOException {
+        if (0 == source.length) {
+            throw new EOFException("Compressed data is empty");
+        }
+        if (CompressionAlgorithms.STORED_TAG == source[0]) {
+            return CompressionAlgorithms.STORED.decompress(source, limits);
+        }
+        if (delegate.tag() == source[0]) {
+            return delegate.decompress(source, limits);
+        }
+        throw new ZipException(String.format("Unexpected compression format tag 0x%02x", source[0]));
+    }
+
+    /**
+     * Returns count of inputs compressed with delegate algorithm
+     *
+     * @return compressed inputs count
+     * @since 0.1.4
+     */
+    public long getCompressedCount() {
+        return compressedCount.sum();
+    }
+
+    /**
+     * Returns count of inputs stored as is
+     *
+     * @return stored inputs count
+     * @since 0.1.4
+     */
+    public long getStoredCount() {
+        return storedCount.sum();
+    }
+
+    /**
+     * Returns total length of all inputs
+     *
+     * @return input bytes count
+     * @since 0.1.4
+     */
+    public long getInputBytes() {
+        return inputBytes.sum();
+    }
+
+    /**
+     * Returns total length of all outputs including format tags
+     *
+     * @return output bytes count
+     * @since 0.1.4
+     */
+    public long getOutputBytes() {
+        return outputBytes.sum();
+    }
+
+    /**
+     * Returns difference between total input and output lengths, negative if outputs are bigger
+     *
+     * @return saved bytes count
+     * @since 0.1.4
+     */
+    public long getBytesSaved() {
+        return getInputBytes() - getOutputBytes();
+    }
+
+    /**
+     * Returns total time spent in {@link #compress(byte[])}, including entropy estimation and rejected compression attempts
+     *
+     * @return compression time in nanoseconds
+     * @since 0.1.4
+     */
+    public long getCompressionNanos() {
+        return compressionNanos.sum();
+    }
+}
@@ -0,0 +1,79 @@
+package com.hijackermax.utils.compression;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe pool that keeps at most capacity idle instances, instances over capacity are destroyed on release
+ */
+final class BoundedPool<T> {
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int capacity;
+    private final Supplier<T> factory;
+    private final Consumer<T> resetter;
+    private final Consumer<T> destroyer;
+
+    BoundedPool(int capacity, Supplier<T> factory, Consumer<T> resetter, Consumer<T> destroyer) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Pool capacity cannot be negative");
+        }
+        this.capacity = capacity;
+        this.factory = factory;
+        this.resetter = resetter;
+        this.destroyer = destroyer;
+    }
+
+    T acquire() {
+        T instance = idle.poll();
+        if (null == instance) {
+            misses.increment();
+            return factory.get();
+        }
+        idleCount.decrementAndGet();
+        hits.increment();
+        return instance;
+    }
+
+    void release(T instance) {
+        Objects.requireNonNull(instance);
+        if (idleCount.incrementAndGet() > capacity) {
+            idleCount.decrementAndGet();
+            destroyer.accept(instance);
+            return;
+        }
+        resetter.accept(instance);
+        idle.offer(instance);
+    }
+
+    void clear() {
+        T instance;
+        while (null != (instance = idle.poll())) {
+            idleCount.decrementAndGet();
+            destroyer.accept(instance);
+        }
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getIdleCount() {
+        return idleCount.get();
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,66 @@
+package com.hijackermax.utils.compression;
+
+import java.io.IOException;
+
+/**
+ * Common interface of in-memory compression algorithms. Compressed data of every algorithm starts with
+ * format tag byte of registered algorithm, so {@link CompressionAlgorithms#decompress(byte[])} can detect
+ * algorithm automatically.
+ * Implementations should be thread-safe.
+ *
+ * @since 0.1.4
+ */
+public interface CompressionAlgorithm {
+    /**
+     * Returns algorithm name
+     *
+     * @return algorithm name, used for lookup in {@link CompressionAlgorithms}
+     * @since 0.1.4
+     */
+    String name();
+
+    /**
+     * Returns format tag, first byte of any data compressed with this algorithm
+     *
+     * @return format tag byte
+     * @since 0.1.4
+     */
+    byte tag();
+
+    /**
+     * Compresses source byte array, result starts with format tag byte
+     *
+     * @param source byte array that needs to be compressed
+     * @return compressed byte array
+     * @since 0.1.4
+     */
+    byte[] compress(byte[] source);
+
+    /**
+     * Decompresses source byte array that was compressed with this algorithm
+     *
+     * @param source compressed byte array that starts with format tag byte
+     * @return decompressed byte array
+     * @throws IOException if source is truncated, corrupted or has different format tag
+     * @since 0.1.4
+     */
+    byte[] decompress(byte[] source) throws IOException;
+
+    /**
+     * Decompresses source byte array that was compressed with this algorithm, decompression should be aborted
+     * as soon as decompressed data exceeds provided limits. Default implementation checks limits after decompression,
+     * built-in algorithms never allocate more than limits allow.
+     *
+     * @param source compressed byte array that starts with format tag byte
+     * @param limits {@link DecompressionLimits} of decompressed data
+     * @return decompressed byte array
+     * @throws DecompressionLimitException if decompressed data exceeds limits
+     * @throws IOException                 if source is truncated, corrupted or has different format tag
+     * @since 0.1.4
+     */
+    default byte[] decompress(byte[] source, DecompressionLimits limits) throws IOException {
+        byte[] result = decompress(source);
+        limits.check(result.length, source.length);
+        return result;
+    }
+}
@@ -0,0 +1,565 @@
+package com.hijackermax.utils.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Registry of {@link CompressionAlgorithm} singletons, contains gzip, deflate, lz4, stored and dictionary algorithms
+ * by default. Compressed data of registered algorithms can be decompressed with {@link #decompress(byte[])},
+ * algorithm is detected by format tag byte.
+ *
+ * @since 0.1.4
+ */
+public final class CompressionAlgorithms {
+    private static final Map<String, CompressionAlgorithm> NAMES = new ConcurrentHashMap<>();
+    private static final AtomicReferenceArray<CompressionAlgorithm> TAGS = new AtomicReferenceArray<>(256);
+    private static final int MAX_DEFLATE_RATIO = 1032;
+    private static final int MAX_LZ4_RATIO = 255;
+    private static final int DICTIONARY_CHECKSUM_LENGTH = 4;
+
+    /**
+     * Format tag of uncompressed data
+     */
+    public static final byte STORED_TAG = 0x00;
+
+    /**
+     * Format tag of raw deflate data
+     */
+    public static final byte DEFLATE_TAG = 0x01;
+
+    /**
+     * Format tag of LZ4 block data
+     */
+    public static final byte LZ4_TAG = 0x02;
+
+    /**
+     * Format tag of raw deflate data compressed with preset dictionary
+     */
+    public static final byte DICTIONARY_TAG = 0x03;
+
+    /**
+     * Format tag of GZIP data, the first byte of GZIP magic number, so plain GZIP data is detected as well
+     */
+    public static final byte GZIP_TAG = 0x1f;
+
+    /**
+     * GZIP algorithm with shared deflater and inflater pools, produces plain GZIP data with 18 bytes of header and trailer
+     */
+    public static final CompressionAlgorithm GZIP = gzip(DeflaterPool.getDefault(), InflaterPool.getDefault());
+
+    /**
+     * Raw deflate algorithm with shared deflater and inflater pools. Format tag is followed by varint of decompressed
+     * length and raw deflate data, there is no checksum
+     */
+    public static final CompressionAlgorithm DEFLATE = deflate(DeflaterPool.getDefault(), InflaterPool.getDefault());
+
+    /**
+     * LZ4 block algorithm, fast compression with lower ratio. Format tag is followed by varint of decompressed
+     * length and {@link Lz4Block} data
+     */
+    public static final CompressionAlgorithm LZ4 = new Lz4Algorithm();
+
+    /**
+     * No-op algorithm, format tag is followed by source data as is
+     */
+    public static final CompressionAlgorithm STORED = new StoredAlgorithm();
+
+    /**
+     * Preset dictionary algorithm that decompresses data compressed with any dictionary registered in
+     * {@link CompressionDictionary}. It has no dictionary of its own, so its compress method throws
+     * {@link IllegalStateException}, use {@link #dictionary(CompressionDictionary)} for compression.
+     * Format tag is followed by varint of dictionary id, big-endian Adler-32 checksum of dictionary content,
+     * varint of decompressed length and raw deflate data. Decompression fails if registered dictionary content
+     * does not match checksum, so dictionary retrained under the same id is not silently used for old data
+     */
+    public static final CompressionAlgorithm DICTIONARY =
+            new DictionaryAlgorithm(null, DeflaterPool.getDefault(), InflaterPool.getDefault());
+
+    static {
+        Stream.of(GZIP, DEFLATE, LZ4, STORED, DICTIONARY).forEach(CompressionAlgorithms::register);
+    }
+
+    private CompressionAlgorithms() {
+    }
+
+    /**
+     * Creates GZIP algorithm backed by provided pools
+     *
+     * @param deflaterPool {@link DeflaterPool} with required compression level and strategy
+     * @param inflaterPool {@link InflaterPool}
+     * @return GZIP {@link CompressionAlgorithm}
+     * @since 0.1.4
+     */
+    public static CompressionAlgorithm gzip(DeflaterPool deflaterPool, InflaterPool inflaterPool) {
+        return new GzipAlgorithm(Objects.requireNonNull(deflaterPool), Objects.requireNonNull(inflaterPool));
+    }
+
+    /**
+     * Creates raw deflate algorithm backed by provided pools
+     *
+     * @param deflaterPool {@link DeflaterPool} with required compression level and strategy
+     * @param inflaterPool {@link InflaterPool}
+     * @return raw deflate {@link CompressionAlgorithm}
+     * @since 0.1.4
+     */
+    public static CompressionAlgorithm deflate(DeflaterPool deflaterPool, InflaterPool inflaterPool) {
+        return new DeflateAlgorithm(Objects.requireNonNull(deflaterPool), Objects.requireNonNull(inflaterPool));
+    }
+
+    /**
+     * Creates preset dictionary algorithm that compresses data with provided dictionary using shared pools.
+     * Data can be decompressed by any dictionary algorithm if dictionary is registered in {@link CompressionDictionary}.
+     *
+     * @param dictionary {@link CompressionDictionary} that should be used for compression
+     * @return preset dictionary {@link CompressionAlgorithm}
+     * @since 0.1.4
+     */
+    public static CompressionAlgorithm dictionary(CompressionDictionary dictionary) {
+        return dictionary(dictionary, DeflaterPool.getDefault(), InflaterPool.getDefault());
+    }
+
+    /**
+     * Creates preset dictionary algorithm that compresses data with provided dictionary using provided pools
+     *
+     * @param dictionary   {@link CompressionDictionary} that should be used for compression
+     * @param deflaterPool {@link DeflaterPool} with required compression level and strategy
+     * @param inflaterPool {@link InflaterPool}
+     * @return preset dictionary {@link CompressionAlgorithm}
+     * @since 0.1.4
+     */
+    public static CompressionAlgorithm dictionary(CompressionDictionary dictionary, DeflaterPool deflaterPool,
+                                                  InflaterPool inflaterPool) {
+        return new DictionaryAlgorithm(Objects.requireNonNull(dictionary), Objects.requireNonNull(deflaterPool),
+                Objects.requireNonNull(inflaterPool));
+    }
+
+    /**
+     * Returns registered {@link CompressionAlgorithm} with provided name, lookup is case-insensitive
+     *
+     * @param name algorithm name
+     * @return registered {@link CompressionAlgorithm} instance
+     * @throws IllegalArgumentException if there is no algorithm registered with provided name
+     * @since 0.1.4
+     */
+    public static CompressionAlgorithm forName(String name) {
+        CompressionAlgorithm algorithm = NAMES.get(normalizeName(Objects.requireNonNull(name)));
+        if (null == algorithm) {
+            throw new IllegalArgumentException(String.format("Compression algorithm %s is not registered", name));
+        }
+        return algorithm;
+    }
+
+    /**
+     * Returns registered {@link CompressionAlgorithm} with provided format tag
+     *
+     * @param tag format tag byte
+     * @return registered {@link CompressionAlgorithm} instance
+     * @throws IllegalArgumentException if there is no algorithm registered with provided tag
+     * @since 0.1.4
+     */
+    public static CompressionAlgorithm forTag(byte tag) {
+        CompressionAlgorithm algorithm = TAGS.get(tag & 0xff);
+        if (null == algorithm) {
+            throw new IllegalArgumentException(String.format("Compression format tag 0x%02x is not registered", tag));
+        }
+        return algorithm;
+    }
+
+    /**
+     * Registers provided {@link CompressionAlgorithm} if there is no algorithm registered with the same name or tag yet
+     *
+     * @param algorithm thread-safe {@link CompressionAlgorithm} instance
+     * @return true if algorithm was registered, false if its name or tag is already taken
+     * @since 0.1.4
+     */
+    public static boolean register(CompressionAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm);
+        synchronized (TAGS) {
+            String name = normalizeName(algorithm.name());
+            int tag = algorithm.tag() & 0xff;
+            if (NAMES.containsKey(name) || null != TAGS.get(tag)) {
+                return false;
+            }
+            TAGS.set(tag, algorithm);
+            NAMES.put(name, algorithm);
+            return true;
+        }
+    }
+
+    /**
+     * Returns names of all registered algorithms
+     *
+     * @return unmodifiable {@link Set} of registered algorithm names
+     * @since 0.1.4
+     */
+    public static Set<String> names() {
+        return Collections.unmodifiableSet(NAMES.keySet());
+    }
+
+    /**
+     * Decompresses source byte array with registered algorithm detected by format tag byte
+     *
+     * @param source compressed byte array
+     * @return decompressed byte array
+     * @throws IOException if source is empty, truncated, corrupted or its format tag is not registered
+     * @since 0.1.4
+     */
+    public static byte[] decompress(byte[] source) throws IOException {
+        return decompress(source, DecompressionLimits.UNLIMITED);
+    }
+
+    /**
+     * Decompresses source byte array with registered algorithm detected by format tag byte,
+     * decompression is aborted as soon as decompressed data exceeds provided limits
+     *
+     * @param source compressed byte array
+     * @param limits {@link DecompressionLimits} of decompressed data
+     * @return decompressed byte array
+     * @throws DecompressionLimitException if decompressed data exceeds limits
+     * @throws IOException                 if source is empty, truncated, corrupted or its format tag is not registered
+     * @since 0.1.4
+     */
+    public static byte[] decompress(byte[] source, DecompressionLimits limits) throws IOException {
+        Objects.requireNonNull(limits);
+        if (0 == source.length) {
+            throw new EOFException("Compressed data is empty");
+        }
+        CompressionAlgorithm algorithm = TAGS.get(source[0] & 0xff);
+        if (null == algorithm) {
+            throw new ZipException(String.format("Unknown compression format tag 0x%02x", source[0]));
+        }
+        return algorithm.decompress(source, limits);
+    }
+
+    private static String normalizeName(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static void requireTag(byte[] source, byte tag) throws IOException {
+        if (0 == source.length) {
+            throw new EOFException("Compressed data is empty");
+        }
+        if (tag != source[0]) {
+            throw new ZipException(String.format("Unexpected compression format tag 0x%02x", source[0]));
+        }
+    }
+
+    private static int varIntLength(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    private static int writeVarInt(byte[] target, int position, int value) {
+        while ((value & ~0x7f) != 0) {
+            target[position++] = (byte) ((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        target[position++] = (byte) value;
+        return position;
+    }
+
+    /**
+     * Reads non-negative varint that starts at provided position
+     */
+    private static int readVarInt(byte[] source, int position) throws IOException {
+        int value = 0;
+        for (int idx = position, shift = 0; shift < 32; idx++, shift += 7) {
+            if (idx >= source.length) {
+                throw new EOFException("Unexpected end of compressed data header");
+            }
+            if (28 == shift && 0 != (source[idx] & 0xf8)) {
+                break;
+            }
+            value |= (source[idx] & 0x7f) << shift;
+            if (source[idx] >= 0) {
+                return value;
+            }
+        }
+        throw new ZipException("Malformed compressed data header");
+    }
+
+    /**
+     * Rejects decompressed length that cannot be produced from compressed data of provided length with provided
+     * maximal compression ratio, so corrupted length does not cause huge allocation
+     */
+    private static void checkLength(int length, int compressedLength, int maxRatio) throws ZipException {
+        if (length > (long) Math.max(compressedLength, 1) * maxRatio) {
+            throw new ZipException("Decompressed length exceeds maximal compression ratio");
+        }
+    }
+
+    /**
+     * Inflates raw deflate data that follows header and should produce exactly provided length of bytes
+     */
+    private static byte[] inflateExact(byte[] source, int headerLength, int length, CompressionDictionary dictionary,
+                                       InflaterPool inflaterPool) throws IOException {
+        Inflater inflater = inflaterPool.acquire();
+        try {
+            if (null != dictionary) {
+                dictionary.applyTo(inflater);
+            }
+            ZlibBuffers.Output output = new ZlibBuffers.Output(length, DecompressionLimits.ofMaxOutputBytes(length), 0);
+            inflater.setInput(source, headerLength, source.length - headerLength);
+            try {
+                ZlibBuffers.inflate(inflater, output);
+            } catch (DecompressionLimitException e) {
+                throw new ZipException("Inflated length exceeds expected length");
+            }
+            if (output.length() != length) {
+                throw new ZipException("Inflated length does not match expected length");
+            }
+            return output.toByteArray();
+        } finally {
+            inflaterPool.release(inflater);
+        }
+    }
+
+    private static final class GzipAlgorithm implements CompressionAlgorithm {
+        private final DeflaterPool deflaterPool;
+        private final InflaterPool inflaterPool;
+
+        private GzipAlgorithm(DeflaterPool deflaterPool, InflaterPool inflaterPool) {
+            this.deflaterPool = deflaterPool;
+            this.inflaterPool = inflaterPool;
+        }
+
+        @Override
+        public String name() {
+            return "gzip";
+        }
+
+        @Override
+        public byte tag() {
+            return GZIP_TAG;
+        }
+
+        @Override
+        public byte[] compress(byte[] source) {
+            return Gzip.compress(source, deflaterPool);
+        }
+
+        @Override
+        public byte[] decompress(byte[] source) throws IOException {
+            return decompress(source, DecompressionLimits.UNLIMITED);
+        }
+
+        @Override
+        public byte[] decompress(byte[] source, DecompressionLimits limits) throws IOException {
+            return Gzip.decompress(source, inflaterPool, limits);
+        }
+    }
+
+    private static final class DeflateAlgorithm implements CompressionAlgorithm {
+        private final DeflaterPool deflaterPool;
+        private final InflaterPool inflaterPool;
+
+        private DeflateAlgorithm(DeflaterPool deflaterPool, InflaterPool inflaterPool) {
+            this.deflaterPool = deflaterPool;
+            this.inflaterPool = inflaterPool;
+        }
+
+        @Override
+        public String name() {
+            return "deflate";
+        }
+
+        @Override
+        public byte tag() {
+            return DEFLATE_TAG;
+        }
+
+        @Override
+        public byte[] compress(byte[] source) {
+            int headerLength = 1 + varIntLength(source.length);
+            Deflater deflater = deflaterPool.acquire();
+            try {
+                byte[] target = ZlibBuffers.deflate(deflater, source, headerLength, 0);
+                target[0] = DEFLATE_TAG;
+                writeVarInt(target, 1, source.length);
+                return target;
+            } finally {
+                deflaterPool.release(deflater);
+            }
+        }
+
+        @Override
+        public byte[] decompress(byte[] source) throws IOException {
+            return decompress(source, DecompressionLimits.UNLIMITED);
+        }
+
+        @Override
+        public byte[] decompress(byte[] source, DecompressionLimits limits) throws IOException {
+            requireTag(source, DEFLATE_TAG);
+            int length = readVarInt(source, 1);
+            int headerLength = 1 + varIntLength(length);
+            checkLength(length, source.length - headerLength, MAX_DEFLATE_RATIO);
+            limits.check(length, source.length);
+            return inflateExact(source, headerLength, length, null, inflaterPool);
+        }
+    }
+
+    private static final class DictionaryAlgorithm implements CompressionAlgorithm {
+        private final CompressionDictionary dictionary;
+        private final DeflaterPool deflaterPool;
+        private final InflaterPool inflaterPool;
+
+        private DictionaryAlgorithm(CompressionDictionary dictionary, DeflaterPool deflaterPool, InflaterPool inflaterPool) {
+            this.dictionary = dictionary;
+            this.deflaterPool = deflaterPool;
+            this.inflaterPool = inflaterPool;
+        }
+
+        @Override
+        public String name() {
+            return null == dictionary ? "dictionary" : "dictionary-" + dictionary.getId();
+        }
+
+        @Override
+        public byte tag() {
+            return DICTIONARY_TAG;
+        }
+
+        @Override
+        public byte[] compress(byte[] source) {
+            if (null == dictionary) {
+                throw new IllegalStateException("Compression dictionary is not specified");
+            }
+            int id = dictionary.getId();
+            int headerLength = 1 + varIntLength(id) + DICTIONARY_CHECKSUM_LENGTH + varIntLength(source.length);
+            Deflater deflater = deflaterPool.acquire();
+            try {
+                dictionary.applyTo(deflater);
+                byte[] target = ZlibBuffers.deflate(deflater, source, headerLength, 0);
+                target[0] = DICTIONARY_TAG;
+                int position = writeVarInt(target, 1, id);
+                int checksum = dictionary.getChecksum();
+                for (int shift = 24; shift >= 0; shift -= 8) {
+                    target[position++] = (byte) (checksum >>> shift);
+                }
+                writeVarInt(target, position, source.length);
+                return target;
+            } finally {
+                deflaterPool.release(deflater);
+            }
+        }
+
+        @Override
+        public byte[] decompress(byte[] source) throws IOException {
+            return decompress(source, DecompressionLimits.UNLIMITED);
+        }
+
+        @Override
+        public byte[] decompress(byte[] source, DecompressionLimits limits) throws IOException {
+            requireTag(source, DICTIONARY_TAG);
+            int id = readVarInt(source, 1);
+            int checksumPosition = 1 + varIntLength(id);
+            if (source.length < checksumPosition + DICTIONARY_CHECKSUM_LENGTH) {
+                throw new EOFException("Unexpected end of compressed data header");
+            }
+            int checksum = 0;
+            for (int idx = checksumPosition; idx < checksumPosition + DICTIONARY_CHECKSUM_LENGTH; idx++) {
+                checksum = checksum << 8 | (source[idx] & 0xff);
+            }
+            int length = readVarInt(source, checksumPosition + DICTIONARY_CHECKSUM_LENGTH);
+            int headerLength = checksumPosition + DICTIONARY_CHECKSUM_LENGTH + varIntLength(length);
+            checkLength(length, source.length - headerLength, MAX_DEFLATE_RATIO);
+            CompressionDictionary sourceDictionary = null != dictionary && dictionary.getId() == id
+                    ? dictionary
+                    : CompressionDictionary.find(id);
+            if (null == sourceDictionary) {
+                throw new ZipException(String.format("Compression dictionary %d is not registered", id));
+            }
+            if (sourceDictionary.getChecksum() != checksum) {
+                throw new ZipException(String.format("Compression dictionary %d does not match data dictionary checksum", id));
+            }
+            limits.check(length, source.length);
+            return inflateExact(source, headerLength, length, sourceDictionary, inflaterPool);
+        }
+    }
+
+    private static final class Lz4Algorithm implements CompressionAlgorithm {
+        @Override
+        public String name() {
+            return "lz4";
+        }
+
+        @Override
+        public byte tag() {
+            return LZ4_TAG;
+        }
+
+        @Override
+        public byte[] compress(byte[] source) {
+            int headerLength = 1 + varIntLength(source.length);
+            byte[] target = new byte[headerLength + Lz4Block.maxCompressedLength(source.length)];
+            target[0] = LZ4_TAG;
+            writeVarInt(target, 1, source.length);
+            int length = Lz4Block.compress(source, 0, source.length, target, headerLength);
+            return Arrays.copyOf(target, headerLength + length);
+        }
+
+        @Override
+        public byte[] decompress(byte[] source) throws IOException {
+            return decompress(source, DecompressionLimits.UNLIMITED);
+        }
+
+        @Override
+        public byte[] decompress(byte[] source, DecompressionLimits limits) throws IOException {
+            requireTag(source, LZ4_TAG);
+            int length = readVarInt(source, 1);
+            int headerLength = 1 + varIntLength(length);
+            checkLength(length, source.length - headerLength, MAX_LZ4_RATIO);
+            limits.check(length, source.length);
+            byte[] target = new byte[length];
+            try {
+                Lz4Block.decompress(source, headerLength, source.length - headerLength, target, 0, length);
+            } catch (IllegalArgumentException e) {
+                throw new ZipException(e.getMessage());
+            }
+            return target;
+        }
+    }
+
+    private static final class StoredAlgorithm implements CompressionAlgorithm {
+        @Override
+        public String name() {
+            return "stored";
+        }
+
+        @Override
+        public byte tag() {
+            return STORED_TAG;
+        }
+
+        @Override
+        public byte[] compress(byte[] source) {
+            byte[] target = new byte[source.length + 1];
+            target[0] = STORED_TAG;
+            System.arraycopy(source, 0, target, 1, source.length);
+            return target;
+        }
+
+        @Override
+        public byte[] decompress(byte[] source) throws IOException {
+            return decompress(source, DecompressionLimits.UNLIMITED);
+        }
+
+        @Override
+        public byte[] decompress(byte[] source, DecompressionLimits limits) throws IOException {
+            requireTag(source, STORED_TAG);
+            limits.check(source.length - 1L, source.length);
+            return Arrays.copyOfRange(source, 1, source.length);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.hijackermax.utils.compression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Preset deflate dictionary with numeric id, improves compression of small payloads that share common substrings,
+ * for example JSON fragments with the same keys. Dictionaries can be trained from sample strings and should be
+ * registered, so {@link CompressionAlgorithms#decompress(byte[])} can find them by id embedded in compressed data.
+ *
+ * @since 0.1.4
+ */
+public final class CompressionDictionary {
+    /**
+     * Maximal dictionary length, deflate uses only last 32 KB of dictionary
+     */
+    public static final int MAX_LENGTH = 32 * 1024;
+
+    private static final Map<Integer, CompressionDictionary> REGISTRY = new ConcurrentHashMap<>();
+    private static final int SHINGLE_LENGTH = 8;
+
+    private final int id;
+    private final byte[] content;
+    private final int checksum;
+
+    /**
+     * Creates dictionary with provided id and content
+     *
+     * @param id      non-negative dictionary id
+     * @param content dictionary content, the most common substrings should be placed at the end
+     * @throws IllegalArgumentException if id is negative, content is empty or longer than {@link #MAX_LENGTH}
+     * @since 0.1.4
+     */
+    public CompressionDictionary(int id, byte[] content) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Dictionary id cannot be negative");
+        }
+        if (0 == content.length || content.length > MAX_LENGTH) {
+            throw new IllegalArgumentException(String.format("Dictionary length should be from 1 to %d bytes", MAX_LENGTH));
+        }
+        this.id = id;
+        this.content = content.clone();
+        Adler32 adler = new Adler32();
+        adler.update(this.content);
+        this.checksum = (int) adler.getValue();
+    }
+
+    /**
+     * Trains dictionary of maximal length from provided sample strings
+     *
+     * @param id      non-negative dictionary id
+     * @param samples sample strings, typical payloads that will be compressed
+     * @return trained {@link CompressionDictionary}
+     * @throws IllegalArgumentException if id is negative or samples are empty
+     * @since 0.1.4
+     */
+    public static CompressionDictionary train(int id, Collection<String> samples) {
+        return train(id, samples, MAX_LENGTH);
+    }
+
+    /**
+     * Trains dictionary from provided sample strings. Substrings that occur in several samples are collected,
+     * ordered by estimated gain and concatenated, so the most valuable substrings are placed at the end of dictionary
+     * where deflate references them with the shortest distances. If samples have no common substrings,
+     * dictionary consists of samples tail.
+     *
+     * @param id        non-negative dictionary id
+     * @param samples   sample strings, typical payloads that will be compressed
+     * @param maxLength maximal dictionary length, from 1 to {@link #MAX_LENGTH}
+     * @return trained {@link CompressionDictionary}
+     * @throws IllegalArgumentException if id is negative, samples are empty or maximal length is out of range
+     * @since 0.1.4
+     */
+    public static CompressionDictionary train(int id, Collection<String> samples, int maxLength) {
+        if (samples.isEmpty()) {
+            throw new IllegalArgumentException("Samples cannot be empty");
+        }
+        if (maxLength <= 0 || maxLength > MAX_LENGTH) {
+            throw new IllegalArgumentException(String.format("Maximal length should be from 1 to %d bytes", MAX_LENGTH));
+        }
+        List<byte[]> sources = new ArrayList<>(samples.size());
+        samples.forEach(sample -> sources.add(sample.getBytes(StandardCharsets.UTF_8)));
+        Map<Long, Integer> shingleFrequencies = countShingles(sources);
+        int minFrequency = Math.min(2, sources.size());
+        Map<String, Integer> segments = new HashMap<>();
+        for (byte[] source : sources) {
+            collectSegments(source, shingleFrequencies, minFrequency, segments);
+        }
+        List<Map.Entry<String, Integer>> ranked = new ArrayList<>(segments.entrySet());
+        ranked.sort(Comparator.<Map.Entry<String, Integer>>comparingLong(entry -> (long) entry.getValue() * entry.getKey().length())
+                .reversed()
+                .thenComparing(Map.Entry::getKey));
+        List<String> selected = new ArrayList<>();
+        StringBuilder selectedContent = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : ranked) {
+            String segment = entry.getKey();
+            if (selectedContent.length() + segment.length() <= maxLength && selectedContent.indexOf(segment) < 0) {
+                selected.add(segment);
+                selectedContent.append(segment);
+            }
+        }
+        if (selected.isEmpty()) {
+            return new CompressionDictionary(id, samplesTail(sources, maxLength));
+        }
+        Collections.reverse(selected);
+        return new CompressionDictionary(id, String.join("", selected).getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Registers provided dictionary under its id if there is no dictionary registered with the same id yet
+     *
+     * @param dictionary {@link CompressionDictionary} that should be registered
+     * @return true if dictionary was registered, false if dictionary with the same id is already registered
+     * @since 0.1.4
+     */
+    public static boolean register(CompressionDictionary dictionary) {
+        Objects.requireNonNull(dictionary);
+        return null == REGISTRY.putIfAbsent(dictionary.id, dictionary);
+    }
+
+    /**
+     * Returns registered dictionary with provided id
+     *
+     * @param id dictionary id
+     * @return registered {@link CompressionDictionary}
+     * @throws IllegalArgumentException if there is no dictionary registered with provided id
+     * @since 0.1.4
+     */
+    public static CompressionDictionary forId(int id) {
+        CompressionDictionary dictionary = find(id);
+        if (null == dictionary) {
+            throw new IllegalArgumentException(String.format("Compression dictionary %d is not registered", id));
+        }
+        return dictionary;
+    }
+
+    /**
+     * Returns ids of all registered dictionaries
+     *
+     * @return unmodifiable {@link Set} of registered dictionary ids
+     * @since 0.1.4
+     */
+    public static Set<Integer> ids() {
+        return Collections.unmodifiableSet(REGISTRY.keySet());
+    }
+
+    static CompressionDictionary find(int id) {
+        return REGISTRY.get(id);
+    }
+
+    /**
+     * Returns dictionary id
+     *
+     * @return dictionary id
+     * @since 0.1.4
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns copy of dictionary content
+     *
+     * @return dictionary content
+     * @since 0.1.4
+     */
+    public byte[] getContent() {
+        return content.clone();
+    }
+
+    /**
+     * Returns Adler-32 checksum of dictionary content, the same value zlib stores as DICTID
+     *
+     * @return dictionary content checksum
+     * @since 0.1.4
+     */
+    public int getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Returns dictionary length
+     *
+     * @return dictionary length in bytes
+     * @since 0.1.4
+     */
+    public int length() {
+        return content.length;
+    }
+
+    void applyTo(Deflater deflater) {
+        deflater.setDictionary(content);
+    }
+
+    void applyTo(Inflater inflater) {
+        inflater.setDictionary(content);
+    }
+
+    /**
+     * Counts in how many samples each 8-byte shingle occurs
+     */
+    private static Map<Long, Integer> countShingles(List<byte[]> sources) {
+        Map<Long, Integer> frequencies = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        for (byte[] source : sources) {
+            seen.clear();
+            for (int position = 0; position + SHINGLE_LENGTH <= source.length; position++) {
+                Long shingle = readLong(source, position);
+                if (seen.add(shingle)) {
+                    frequencies.merge(shingle, 1, Integer::sum);
+                }
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * Collects maximal runs of frequent shingles as segments and counts their occurrences,
+     * segments are stored as ISO-8859-1 strings that map bytes one to one
+     */
+    private static void collectSegments(byte[] source, Map<Long, Integer> shingleFrequencies, int minFrequency,
+                                        Map<String, Integer> segments) {
+        int position = 0;
+        int lastPosition = source.length - SHINGLE_LENGTH;
+        while (position <= lastPosition) {
+            if (shingleFrequencies.get(readLong(source, position)) < minFrequency) {
+                position++;
+                continue;
+            }
+            int start = position;
+            while (position < lastPosition && shingleFrequencies.get(readLong(source, position + 1)) >= minFrequency) {
+                position++;
+            }
+            int end = Math.min(position + SHINGLE_LENGTH, start + MAX_LENGTH);
+            segments.merge(new String(source, start, end - start, StandardCharsets.ISO_8859_1), 1, Integer::sum);
+            position++;
+        }
+    }
+
+    private static byte[] samplesTail(List<byte[]> sources, int maxLength) {
+        byte[] tail = new byte[maxLength];
+        int position = maxLength;
+        for (int idx = sources.size() - 1; idx >= 0 && position > 0; idx--) {
+            byte[] source = sources.get(idx);
+            int length = Math.min(position, source.length);
+            position -= length;
+            System.arraycopy(source, source.length - length, tail, position, length);
+        }
+        if (position == maxLength) {
+            throw new IllegalArgumentException("Samples cannot be empty");
+        }
+        byte[] result = new byte[maxLength - position];
+        System.arraycopy(tail, position, result, 0, result.length);
+        return result;
+    }
+
+    private static long readLong(byte[] source, int offset) {
+        long value = 0;
+        for (int idx = SHINGLE_LENGTH - 1; idx >= 0; idx--) {
+            value = value << 8 | (source[offset + idx] & 0xff);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,66 @@
+package com.hijackermax.utils.compression;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Signals that decompressed data exceeds {@link DecompressionLimits}, decompression is aborted as soon as limit is exceeded
+ *
+ * @since 0.1.4
+ */
+public class DecompressionLimitException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final long compressedLength;
+    private final long decompressedLength;
+
+    /**
+     * Creates exception for provided limits and lengths
+     *
+     * @param limits             exceeded {@link DecompressionLimits}
+     * @param compressedLength   compressed data length
+     * @param decompressedLength decompressed data length or its lower bound if decompression was aborted
+     * @since 0.1.4
+     */
+    public DecompressionLimitException(DecompressionLimits limits, long compressedLength, long decompressedLength) {
+        super(String.format(Locale.ROOT,
+                "Decompressed data length %d exceeds limit of %d bytes, compression ratio is at least %.1f",
+                decompressedLength, limits.maxOutputBytes(compressedLength), ratio(compressedLength, decompressedLength)));
+        this.compressedLength = compressedLength;
+        this.decompressedLength = decompressedLength;
+    }
+
+    /**
+     * Returns compressed data length
+     *
+     * @return compressed data length in bytes
+     * @since 0.1.4
+     */
+    public long getCompressedLength() {
+        return compressedLength;
+    }
+
+    /**
+     * Returns decompressed data length, lower bound of it if decompression was aborted
+     *
+     * @return decompressed data length in bytes
+     * @since 0.1.4
+     */
+    public long getDecompressedLength() {
+        return decompressedLength;
+    }
+
+    /**
+     * Returns ratio of decompressed length to compressed length, lower bound of it if decompression was aborted
+     *
+     * @return compression ratio
+     * @since 0.1.4
+     */
+    public double getRatio() {
+        return ratio(compressedLength, decompressedLength);
+    }
+
+    private static double ratio(long compressedLength, long decompressedLength) {
+        return (double) decompressedLength / Math.max(1, compressedLength);
+    }
+}
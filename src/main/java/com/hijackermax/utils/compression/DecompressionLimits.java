@@ -0,0 +1,94 @@
+package com.hijackermax.utils.compression;
+
+/**
+ * Limits of decompressed data length, protect from decompression bombs. Decompressed length is limited by absolute
+ * maximal length and by maximal expansion ratio, decompressed to compressed length ratio.
+ *
+ * @since 0.1.4
+ */
+public final class DecompressionLimits {
+    /**
+     * Limits that allow any decompressed length
+     */
+    public static final DecompressionLimits UNLIMITED = new DecompressionLimits(Long.MAX_VALUE, Double.POSITIVE_INFINITY);
+
+    private final long maxOutputBytes;
+    private final double maxRatio;
+
+    /**
+     * Creates limits with provided maximal decompressed length and maximal expansion ratio
+     *
+     * @param maxOutputBytes maximal decompressed length in bytes
+     * @param maxRatio       maximal ratio of decompressed length to compressed length, not less than 1
+     * @throws IllegalArgumentException if maximal length is negative or maximal ratio is less than 1
+     * @since 0.1.4
+     */
+    public DecompressionLimits(long maxOutputBytes, double maxRatio) {
+        if (maxOutputBytes < 0) {
+            throw new IllegalArgumentException("Maximal output length cannot be negative");
+        }
+        if (!(maxRatio >= 1)) {
+            throw new IllegalArgumentException("Maximal ratio should not be less than 1");
+        }
+        this.maxOutputBytes = maxOutputBytes;
+        this.maxRatio = maxRatio;
+    }
+
+    /**
+     * Creates limits with provided maximal decompressed length and without expansion ratio limit
+     *
+     * @param maxOutputBytes maximal decompressed length in bytes
+     * @return {@link DecompressionLimits} instance
+     * @throws IllegalArgumentException if maximal length is negative
+     * @since 0.1.4
+     */
+    public static DecompressionLimits ofMaxOutputBytes(long maxOutputBytes) {
+        return new DecompressionLimits(maxOutputBytes, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Returns maximal decompressed length
+     *
+     * @return maximal decompressed length in bytes
+     * @since 0.1.4
+     */
+    public long getMaxOutputBytes() {
+        return maxOutputBytes;
+    }
+
+    /**
+     * Returns maximal ratio of decompressed length to compressed length
+     *
+     * @return maximal expansion ratio
+     * @since 0.1.4
+     */
+    public double getMaxRatio() {
+        return maxRatio;
+    }
+
+    /**
+     * Returns maximal decompressed length allowed for compressed data of provided length
+     *
+     * @param compressedLength compressed data length
+     * @return minimum of maximal decompressed length and length allowed by maximal expansion ratio
+     * @since 0.1.4
+     */
+    public long maxOutputBytes(long compressedLength) {
+        double ratioLimit = Math.floor(Math.max(1, compressedLength) * maxRatio);
+        return ratioLimit >= maxOutputBytes ? maxOutputBytes : (long) ratioLimit;
+    }
+
+    /**
+     * Checks that decompressed length is allowed for compressed data of provided length
+     *
+     * @param decompressedLength decompressed data length
+     * @param compressedLength   compressed data length
+     * @throws DecompressionLimitException if decompressed length exceeds limits
+     * @since 0.1.4
+     */
+    public void check(long decompressedLength, long compressedLength) throws DecompressionLimitException {
+        if (decompressedLength > maxOutputBytes(compressedLength)) {
+            throw new DecompressionLimitException(this, compressedLength, decompressedLength);
+        }
+    }
+}
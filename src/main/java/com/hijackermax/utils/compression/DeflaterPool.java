@@ -0,0 +1,166 @@
+package com.hijackermax.utils.compression;
+
+import java.util.zip.Deflater;
+
+/**
+ * Bounded thread-safe pool of raw (nowrap) {@link Deflater} instances with fixed compression level and strategy.
+ * Released instances are reset and reused, so native zlib state is allocated only on pool misses.
+ *
+ * @since 0.1.4
+ */
+public final class DeflaterPool {
+    /**
+     * Default pool capacity, twice the number of available processors
+     */
+    public static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final DeflaterPool DEFAULT_POOL = new DeflaterPool(Deflater.DEFAULT_COMPRESSION);
+
+    private final BoundedPool<Deflater> pool;
+    private final int level;
+    private final int strategy;
+
+    /**
+     * Creates pool of deflaters with provided capacity, compression level and strategy
+     *
+     * @param capacity maximal count of idle deflaters kept in pool, 0 disables pooling
+     * @param level    compression level from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @param strategy one of {@link Deflater#DEFAULT_STRATEGY}, {@link Deflater#FILTERED} or {@link Deflater#HUFFMAN_ONLY}
+     * @throws IllegalArgumentException if capacity is negative, level or strategy is not supported
+     * @since 0.1.4
+     */
+    public DeflaterPool(int capacity, int level, int strategy) {
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException(String.format("Unsupported compression level %d", level));
+        }
+        if (strategy != Deflater.DEFAULT_STRATEGY && strategy != Deflater.FILTERED && strategy != Deflater.HUFFMAN_ONLY) {
+            throw new IllegalArgumentException(String.format("Unsupported compression strategy %d", strategy));
+        }
+        this.level = level;
+        this.strategy = strategy;
+        this.pool = new BoundedPool<>(capacity, this::createDeflater, this::resetDeflater, Deflater::end);
+    }
+
+    /**
+     * Creates pool of deflaters with default capacity, provided compression level and default strategy
+     *
+     * @param level compression level from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @throws IllegalArgumentException if level is not supported
+     * @since 0.1.4
+     */
+    public DeflaterPool(int level) {
+        this(DEFAULT_CAPACITY, level, Deflater.DEFAULT_STRATEGY);
+    }
+
+    /**
+     * Returns shared pool with default capacity, compression level and strategy
+     *
+     * @return shared {@link DeflaterPool}
+     * @since 0.1.4
+     */
+    public static DeflaterPool getDefault() {
+        return DEFAULT_POOL;
+    }
+
+    /**
+     * Takes idle deflater from pool or creates new one if pool is empty
+     *
+     * @return raw {@link Deflater} that should be returned with {@link #release(Deflater)} after use
+     * @since 0.1.4
+     */
+    public Deflater acquire() {
+        return pool.acquire();
+    }
+
+    /**
+     * Returns deflater acquired from this pool, deflater is reset or ended if pool is full.
+     * Deflater must not be used after release.
+     *
+     * @param deflater {@link Deflater} acquired from this pool
+     * @since 0.1.4
+     */
+    public void release(Deflater deflater) {
+        pool.release(deflater);
+    }
+
+    /**
+     * Ends and removes all idle deflaters
+     *
+     * @since 0.1.4
+     */
+    public void clear() {
+        pool.clear();
+    }
+
+    /**
+     * Returns compression level of pooled deflaters
+     *
+     * @return compression level
+     * @since 0.1.4
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns compression strategy of pooled deflaters
+     *
+     * @return compression strategy
+     * @since 0.1.4
+     */
+    public int getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns maximal count of idle deflaters kept in pool
+     *
+     * @return pool capacity
+     * @since 0.1.4
+     */
+    public int getCapacity() {
+        return pool.getCapacity();
+    }
+
+    /**
+     * Returns current count of idle deflaters in pool
+     *
+     * @return idle deflaters count
+     * @since 0.1.4
+     */
+    public int getIdleCount() {
+        return pool.getIdleCount();
+    }
+
+    /**
+     * Returns count of acquisitions served with pooled deflater
+     *
+     * @return pool hits count
+     * @since 0.1.4
+     */
+    public long getHits() {
+        return pool.getHits();
+    }
+
+    /**
+     * Returns count of acquisitions that required new deflater creation
+     *
+     * @return pool misses count
+     * @since 0.1.4
+     */
+    public long getMisses() {
+        return pool.getMisses();
+    }
+
+    private Deflater createDeflater() {
+        Deflater deflater = new Deflater(level, true);
+        deflater.setStrategy(strategy);
+        return deflater;
+    }
+
+    private void resetDeflater(Deflater deflater) {
+        deflater.reset();
+        deflater.setLevel(level);
+        deflater.setStrategy(strategy);
+    }
+}
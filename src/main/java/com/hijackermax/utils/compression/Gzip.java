@@ -0,0 +1,406 @@
+package com.hijackermax.utils.compression;
+
+import com.hijackermax.utils.internal.ParallelSlices;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * In-memory GZIP compression and decompression backed by pooled {@link Deflater} and {@link Inflater} instances.
+ * Produced data is equal to {@link java.util.zip.GZIPOutputStream} output with the same compression settings,
+ * header contains unknown operating system identifier.
+ *
+ * @since 0.1.4
+ */
+public final class Gzip {
+    private static final int HEADER_LENGTH = 10;
+    private static final int TRAILER_LENGTH = 8;
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int MIN_LENGTH_HINT = 64 * 1024;
+    private static final int MAX_LENGTH_HINT = 1024 * 1024;
+
+    /**
+     * Default block length of parallel compression
+     */
+    public static final int DEFAULT_BLOCK_LENGTH = 128 * 1024;
+
+    private static final int DICTIONARY_LENGTH = 32 * 1024;
+
+    /**
+     * Minimal block length of parallel compression, equal to deflate window size, each block is primed
+     * with up to this many bytes of dictionary, so shorter blocks cost more than they save
+     */
+    public static final int MIN_BLOCK_LENGTH = DICTIONARY_LENGTH;
+    private static final long CRC32_POLYNOMIAL = 0xedb88320L;
+
+    private Gzip() {
+    }
+
+    /**
+     * Compresses source byte array to single GZIP member using deflater from shared {@link DeflaterPool}
+     *
+     * @param source byte array that needs to be compressed
+     * @return GZIP compressed byte array
+     * @since 0.1.4
+     */
+    public static byte[] compress(byte[] source) {
+        return compress(source, DeflaterPool.getDefault());
+    }
+
+    /**
+     * Compresses source byte array to single GZIP member using deflater from provided {@link DeflaterPool}
+     *
+     * @param source       byte array that needs to be compressed
+     * @param deflaterPool {@link DeflaterPool} that provides deflater with required level and strategy
+     * @return GZIP compressed byte array
+     * @since 0.1.4
+     */
+    public static byte[] compress(byte[] source, DeflaterPool deflaterPool) {
+        Objects.requireNonNull(source);
+        Deflater deflater = deflaterPool.acquire();
+        try {
+            byte[] target = ZlibBuffers.deflate(deflater, source, HEADER_LENGTH, TRAILER_LENGTH);
+            System.arraycopy(HEADER, 0, target, 0, HEADER_LENGTH);
+            int position = target.length - TRAILER_LENGTH;
+            CRC32 crc = new CRC32();
+            crc.update(source);
+            writeInt(target, position, (int) crc.getValue());
+            writeInt(target, position + 4, source.length);
+            return target;
+        } finally {
+            deflaterPool.release(deflater);
+        }
+    }
+
+    /**
+     * Compresses source byte array to single GZIP member on provided {@link ForkJoinPool} with default block length
+     * and deflaters from shared {@link DeflaterPool}
+     *
+     * @param source byte array that needs to be compressed
+     * @param pool   {@link ForkJoinPool} that should be used for compression
+     * @return GZIP compressed byte array
+     * @since 0.1.4
+     */
+    public static byte[] compressParallel(byte[] source, ForkJoinPool pool) {
+        return compressParallel(source, pool, DeflaterPool.getDefault(), DEFAULT_BLOCK_LENGTH);
+    }
+
+    /**
+     * Compresses source byte array to single GZIP member on provided {@link ForkJoinPool}, the same way pigz does.
+     * Source is split to blocks of provided length, blocks are deflated concurrently, each one with last 32 KB of
+     * previous block as preset dictionary, and joined with sync flush markers to single deflate stream.
+     * CRC32 of blocks is calculated concurrently as well and combined. Result can be decompressed with any GZIP decoder,
+     * it is a bit bigger than result of sequential compression.
+     *
+     * @param source       byte array that needs to be compressed
+     * @param pool         {@link ForkJoinPool} that should be used for compression
+     * @param deflaterPool {@link DeflaterPool} that provides deflaters with required level and strategy
+     * @param blockLength  length of source block compressed by single task, not less than {@link #MIN_BLOCK_LENGTH}
+     * @return GZIP compressed byte array
+     * @throws IllegalArgumentException if block length is less than {@link #MIN_BLOCK_LENGTH}
+     * @since 0.1.4
+     */
+    public static byte[] compressParallel(byte[] source, ForkJoinPool pool, DeflaterPool deflaterPool, int blockLength) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(pool);
+        Objects.requireNonNull(deflaterPool);
+        if (blockLength < MIN_BLOCK_LENGTH) {
+            throw new IllegalArgumentException("Block length should be at least " + MIN_BLOCK_LENGTH);
+        }
+        if (source.length <= blockLength) {
+            return compress(source, deflaterPool);
+        }
+        int blocksCount = (int) ((source.length + (long) blockLength - 1) / blockLength);
+        byte[][] blocks = new byte[blocksCount][];
+        long[] checksums = new long[blocksCount];
+        ParallelSlices.forEachSlice(pool, blocksCount, index -> {
+            int offset = index * blockLength;
+            int length = Math.min(blockLength, source.length - offset);
+            blocks[index] = deflateBlock(source, offset, length, deflaterPool);
+            CRC32 crc = new CRC32();
+            crc.update(source, offset, length);
+            checksums[index] = crc.getValue();
+        });
+        long compressedLength = HEADER_LENGTH + TRAILER_LENGTH;
+        long checksum = 0;
+        for (int index = 0; index < blocksCount; index++) {
+            compressedLength += blocks[index].length;
+            int length = Math.min(blockLength, source.length - index * blockLength);
+            checksum = combineCrc32(checksum, checksums[index], length);
+        }
+        if (compressedLength > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Compressed data is too large");
+        }
+        byte[] target = new byte[(int) compressedLength];
+        System.arraycopy(HEADER, 0, target, 0, HEADER_LENGTH);
+        int position = HEADER_LENGTH;
+        for (byte[] block : blocks) {
+            System.arraycopy(block, 0, target, position, block.length);
+            position += block.length;
+        }
+        writeInt(target, position, (int) checksum);
+        writeInt(target, position + 4, source.length);
+        return target;
+    }
+
+    /**
+     * Decompresses all GZIP members of source byte array using inflater from shared {@link InflaterPool}
+     *
+     * @param source GZIP compressed byte array
+     * @return decompressed byte array
+     * @throws IOException if source is not in GZIP format, truncated or corrupted
+     * @since 0.1.4
+     */
+    public static byte[] decompress(byte[] source) throws IOException {
+        return decompress(source, InflaterPool.getDefault());
+    }
+
+    /**
+     * Decompresses all GZIP members of source byte array using inflater from provided {@link InflaterPool}.
+     * Trailing data that does not start with GZIP header is ignored, same as {@link java.util.zip.GZIPInputStream} does.
+     *
+     * @param source       GZIP compressed byte array
+     * @param inflaterPool {@link InflaterPool} that provides inflater
+     * @return decompressed byte array
+     * @throws IOException if source is not in GZIP format, truncated or corrupted
+     * @since 0.1.4
+     */
+    public static byte[] decompress(byte[] source, InflaterPool inflaterPool) throws IOException {
+        return decompress(source, inflaterPool, DecompressionLimits.UNLIMITED);
+    }
+
+    /**
+     * Decompresses all GZIP members of source byte array using inflater from provided {@link InflaterPool},
+     * decompression is aborted as soon as decompressed data exceeds provided limits
+     *
+     * @param source       GZIP compressed byte array
+     * @param inflaterPool {@link InflaterPool} that provides inflater
+     * @param limits       {@link DecompressionLimits} of decompressed data
+     * @return decompressed byte array
+     * @throws DecompressionLimitException if decompressed data exceeds limits
+     * @throws IOException                 if source is not in GZIP format, truncated or corrupted
+     * @since 0.1.4
+     */
+    public static byte[] decompress(byte[] source, InflaterPool inflaterPool, DecompressionLimits limits) throws IOException {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(limits);
+        Inflater inflater = inflaterPool.acquire();
+        try {
+            ZlibBuffers.Output output = new ZlibBuffers.Output(decompressedLengthHint(source), limits, source.length);
+            decompress(inflater, new CRC32(), source, output);
+            return output.toByteArray();
+        } finally {
+            inflaterPool.release(inflater);
+        }
+    }
+
+    /**
+     * Compresses source range to single GZIP member and appends it to output, deflater should be reset
+     */
+    static void compress(Deflater deflater, CRC32 crc, byte[] source, int offset, int length, ZlibBuffers.Output output) {
+        int start = output.length();
+        output.ensureCapacity(start + HEADER_LENGTH);
+        System.arraycopy(HEADER, 0, output.buffer(), start, HEADER_LENGTH);
+        output.setLength(start + HEADER_LENGTH);
+        ZlibBuffers.deflate(deflater, source, offset, length, output);
+        crc.reset();
+        crc.update(source, offset, length);
+        int position = output.length();
+        output.ensureCapacity(position + TRAILER_LENGTH);
+        writeInt(output.buffer(), position, (int) crc.getValue());
+        writeInt(output.buffer(), position + 4, length);
+        output.setLength(position + TRAILER_LENGTH);
+    }
+
+    /**
+     * Decompresses all GZIP members of source byte array and appends decompressed bytes to output, inflater should be reset
+     */
+    static void decompress(Inflater inflater, CRC32 crc, byte[] source, ZlibBuffers.Output output) throws IOException {
+        int offset = readHeader(source, 0);
+        while (true) {
+            int memberStart = output.length();
+            inflater.setInput(source, offset, source.length - offset);
+            ZlibBuffers.inflate(inflater, output);
+            offset = source.length - inflater.getRemaining();
+            if (source.length - offset < TRAILER_LENGTH) {
+                throw new EOFException("Unexpected end of GZIP input stream");
+            }
+            int memberLength = output.length() - memberStart;
+            crc.reset();
+            crc.update(output.buffer(), memberStart, memberLength);
+            if (readInt(source, offset) != (int) crc.getValue() || readInt(source, offset + 4) != memberLength) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+            offset += TRAILER_LENGTH;
+            if (!isMemberStart(source, offset)) {
+                return;
+            }
+            offset = readHeader(source, offset);
+            inflater.reset();
+        }
+    }
+
+    private static byte[] deflateBlock(byte[] source, int offset, int length, DeflaterPool deflaterPool) {
+        Deflater deflater = deflaterPool.acquire();
+        try {
+            if (offset > 0) {
+                int dictionaryLength = Math.min(DICTIONARY_LENGTH, offset);
+                deflater.setDictionary(source, offset - dictionaryLength, dictionaryLength);
+            }
+            return ZlibBuffers.deflateBlock(deflater, source, offset, length, offset + length == source.length);
+        } finally {
+            deflaterPool.release(deflater);
+        }
+    }
+
+    /**
+     * Calculates CRC32 of two concatenated ranges from CRC32 of each range and length of the second one,
+     * port of zlib crc32_combine
+     */
+    static long combineCrc32(long firstCrc, long secondCrc, long secondLength) {
+        if (secondLength <= 0) {
+            return firstCrc;
+        }
+        long[] even = new long[32];
+        long[] odd = new long[32];
+        odd[0] = CRC32_POLYNOMIAL;
+        long row = 1;
+        for (int idx = 1; idx < 32; idx++) {
+            odd[idx] = row;
+            row <<= 1;
+        }
+        gf2MatrixSquare(even, odd);
+        gf2MatrixSquare(odd, even);
+        long crc = firstCrc;
+        long length = secondLength;
+        do {
+            gf2MatrixSquare(even, odd);
+            if (0 != (length & 1)) {
+                crc = gf2MatrixTimes(even, crc);
+            }
+            length >>= 1;
+            if (0 == length) {
+                break;
+            }
+            gf2MatrixSquare(odd, even);
+            if (0 != (length & 1)) {
+                crc = gf2MatrixTimes(odd, crc);
+            }
+            length >>= 1;
+        } while (0 != length);
+        return crc ^ secondCrc;
+    }
+
+    private static long gf2MatrixTimes(long[] matrix, long vector) {
+        long sum = 0;
+        for (int idx = 0; 0 != vector; idx++, vector >>>= 1) {
+            if (0 != (vector & 1)) {
+                sum ^= matrix[idx];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] matrix) {
+        for (int idx = 0; idx < 32; idx++) {
+            square[idx] = gf2MatrixTimes(matrix, matrix[idx]);
+        }
+    }
+
+    private static boolean isMemberStart(byte[] source, int offset) {
+        return source.length - offset >= HEADER_LENGTH
+                && HEADER[0] == source[offset]
+                && HEADER[1] == source[offset + 1]
+                && Deflater.DEFLATED == source[offset + 2];
+    }
+
+    private static int readHeader(byte[] source, int offset) throws IOException {
+        if (source.length - offset < HEADER_LENGTH) {
+            throw new EOFException();
+        }
+        if (HEADER[0] != source[offset] || HEADER[1] != source[offset + 1]) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (Deflater.DEFLATED != source[offset + 2]) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = source[offset + 3] & 0xff;
+        int position = offset + HEADER_LENGTH;
+        if (0 != (flags & FEXTRA)) {
+            requireAvailable(source, position, 2);
+            position += 2 + ((source[position] & 0xff) | (source[position + 1] & 0xff) << 8);
+        }
+        if (0 != (flags & FNAME)) {
+            position = skipZeroTerminated(source, position);
+        }
+        if (0 != (flags & FCOMMENT)) {
+            position = skipZeroTerminated(source, position);
+        }
+        if (0 != (flags & FHCRC)) {
+            requireAvailable(source, position, 2);
+            CRC32 crc = new CRC32();
+            crc.update(source, offset, position - offset);
+            int headerCrc = (source[position] & 0xff) | (source[position + 1] & 0xff) << 8;
+            if (headerCrc != ((int) crc.getValue() & 0xffff)) {
+                throw new ZipException("Corrupt GZIP header");
+            }
+            position += 2;
+        }
+        requireAvailable(source, position, 0);
+        return position;
+    }
+
+    private static int skipZeroTerminated(byte[] source, int position) throws EOFException {
+        while (true) {
+            requireAvailable(source, position, 1);
+            if (0 == source[position++]) {
+                return position;
+            }
+        }
+    }
+
+    private static void requireAvailable(byte[] source, int position, int length) throws EOFException {
+        if (position < 0 || source.length - position < length) {
+            throw new EOFException();
+        }
+    }
+
+    /**
+     * Uses ISIZE of the last member as initial buffer length if it does not exceed four times the source length
+     * clamped to [64 KiB, 1 MiB], so small single member sources are decompressed without buffer growth.
+     * ISIZE is not trusted beyond that cap, larger outputs grow the buffer as data is inflated
+     */
+    static int decompressedLengthHint(byte[] source) {
+        long cap = Math.max(MIN_LENGTH_HINT, Math.min((long) source.length * 4L, MAX_LENGTH_HINT));
+        if (source.length < HEADER_LENGTH + TRAILER_LENGTH) {
+            return (int) Math.min((long) source.length * 4L, cap);
+        }
+        long size = readInt(source, source.length - 4) & 0xffffffffL;
+        return (int) Math.min(size, cap);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >>> 8);
+        target[offset + 2] = (byte) (value >>> 16);
+        target[offset + 3] = (byte) (value >>> 24);
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        return (source[offset] & 0xff)
+                | (source[offset + 1] & 0xff) << 8
+                | (source[offset + 2] & 0xff) << 16
+                | (source[offset + 3] & 0xff) << 24;
+    }
+}
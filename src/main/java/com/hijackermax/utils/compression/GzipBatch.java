@@ -0,0 +1,157 @@
+package com.hijackermax.utils.compression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * GZIP compressor and decompressor for batches of small inputs. Instance keeps single deflater and inflater
+ * acquired from pools, CRC32, UTF-8 encoder and scratch buffers for the whole batch, so per-input allocations
+ * are limited to the result array. Produced data is the same as {@link Gzip#compress(byte[], DeflaterPool)} output.
+ * Instances are not thread-safe, each thread should use its own instance and close it after the batch
+ * to return deflater and inflater to pools.
+ *
+ * @since 0.1.4
+ */
+public final class GzipBatch implements AutoCloseable {
+    private static final int INITIAL_BUFFER_LENGTH = 1024;
+    private static final int MAX_UTF8_BYTES_PER_CHAR = 3;
+
+    private final DeflaterPool deflaterPool;
+    private final InflaterPool inflaterPool;
+    private final CRC32 crc = new CRC32();
+    private final ZlibBuffers.Output output = new ZlibBuffers.Output(INITIAL_BUFFER_LENGTH);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer text = ByteBuffer.allocate(INITIAL_BUFFER_LENGTH);
+    private Deflater deflater;
+    private Inflater inflater;
+
+    /**
+     * Creates batch that uses shared {@link DeflaterPool} and {@link InflaterPool}
+     *
+     * @since 0.1.4
+     */
+    public GzipBatch() {
+        this(DeflaterPool.getDefault(), InflaterPool.getDefault());
+    }
+
+    /**
+     * Creates batch that uses provided pools
+     *
+     * @param deflaterPool {@link DeflaterPool} that provides deflater with required level and strategy
+     * @param inflaterPool {@link InflaterPool} that provides inflater
+     * @since 0.1.4
+     */
+    public GzipBatch(DeflaterPool deflaterPool, InflaterPool inflaterPool) {
+        this.deflaterPool = Objects.requireNonNull(deflaterPool);
+        this.inflaterPool = Objects.requireNonNull(inflaterPool);
+    }
+
+    /**
+     * Compresses source byte array to single GZIP member
+     *
+     * @param source byte array that needs to be compressed
+     * @return GZIP compressed byte array
+     * @since 0.1.4
+     */
+    public byte[] compress(byte[] source) {
+        return compress(source, 0, source.length);
+    }
+
+    /**
+     * Encodes source {@link CharSequence} with UTF-8 to scratch buffer and compresses it to single GZIP member
+     *
+     * @param source {@link CharSequence} that needs to be compressed
+     * @return GZIP compressed UTF-8 bytes of source
+     * @since 0.1.4
+     */
+    public byte[] compress(CharSequence source) {
+        long maxLength = (long) source.length() * MAX_UTF8_BYTES_PER_CHAR;
+        if (maxLength > text.capacity()) {
+            if (maxLength > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Required array length is too large");
+            }
+            text = ByteBuffer.allocate((int) maxLength);
+        }
+        text.clear();
+        encoder.reset();
+        encoder.encode(CharBuffer.wrap(source), text, true);
+        encoder.flush(text);
+        return compress(text.array(), 0, text.position());
+    }
+
+    /**
+     * Decompresses all GZIP members of source byte array
+     *
+     * @param source GZIP compressed byte array
+     * @return decompressed byte array
+     * @throws IOException if source is not in GZIP format, truncated or corrupted
+     * @since 0.1.4
+     */
+    public byte[] decompress(byte[] source) throws IOException {
+        inflate(source);
+        return Arrays.copyOf(output.buffer(), output.length());
+    }
+
+    /**
+     * Decompresses all GZIP members of source byte array and decodes them from UTF-8 without intermediate byte array
+     *
+     * @param source GZIP compressed byte array
+     * @return decompressed {@link String}
+     * @throws IOException if source is not in GZIP format, truncated or corrupted
+     * @since 0.1.4
+     */
+    public String decompressToString(byte[] source) throws IOException {
+        inflate(source);
+        return new String(output.buffer(), 0, output.length(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns deflater and inflater to pools, batch can still be used after closing and acquires them again
+     *
+     * @since 0.1.4
+     */
+    @Override
+    public void close() {
+        if (null != deflater) {
+            deflaterPool.release(deflater);
+            deflater = null;
+        }
+        if (null != inflater) {
+            inflaterPool.release(inflater);
+            inflater = null;
+        }
+    }
+
+    private byte[] compress(byte[] source, int offset, int length) {
+        if (null == deflater) {
+            deflater = deflaterPool.acquire();
+        } else {
+            deflater.reset();
+        }
+        output.setLength(0);
+        Gzip.compress(deflater, crc, source, offset, length, output);
+        return Arrays.copyOf(output.buffer(), output.length());
+    }
+
+    private void inflate(byte[] source) throws IOException {
+        Objects.requireNonNull(source);
+        if (null == inflater) {
+            inflater = inflaterPool.acquire();
+        } else {
+            inflater.reset();
+        }
+        output.setLength(0);
+        Gzip.decompress(inflater, crc, source, output);
+    }
+}
@@ -0,0 +1,111 @@
+package com.hijackermax.utils.compression;
+
+import java.util.zip.Inflater;
+
+/**
+ * Bounded thread-safe pool of raw (nowrap) {@link Inflater} instances.
+ * Released instances are reset and reused, so native zlib state is allocated only on pool misses.
+ *
+ * @since 0.1.4
+ */
+public final class InflaterPool {
+    /**
+     * Default pool capacity, twice the number of available processors
+     */
+    public static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final InflaterPool DEFAULT_POOL = new InflaterPool(DEFAULT_CAPACITY);
+
+    private final BoundedPool<Inflater> pool;
+
+    /**
+     * Creates pool of inflaters with provided capacity
+     *
+     * @param capacity maximal count of idle inflaters kept in pool, 0 disables pooling
+     * @throws IllegalArgumentException if capacity is negative
+     * @since 0.1.4
+     */
+    public InflaterPool(int capacity) {
+        this.pool = new BoundedPool<>(capacity, () -> new Inflater(true), Inflater::reset, Inflater::end);
+    }
+
+    /**
+     * Returns shared pool with default capacity
+     *
+     * @return shared {@link InflaterPool}
+     * @since 0.1.4
+     */
+    public static InflaterPool getDefault() {
+        return DEFAULT_POOL;
+    }
+
+    /**
+     * Takes idle inflater from pool or creates new one if pool is empty
+     *
+     * @return raw {@link Inflater} that should be returned with {@link #release(Inflater)} after use
+     * @since 0.1.4
+     */
+    public Inflater acquire() {
+        return pool.acquire();
+    }
+
+    /**
+     * Returns inflater acquired from this pool, inflater is reset or ended if pool is full.
+     * Inflater must not be used after release.
+     *
+     * @param inflater {@link Inflater} acquired from this pool
+     * @since 0.1.4
+     */
+    public void release(Inflater inflater) {
+        pool.release(inflater);
+    }
+
+    /**
+     * Ends and removes all idle inflaters
+     *
+     * @since 0.1.4
+     */
+    public void clear() {
+        pool.clear();
+    }
+
+    /**
+     * Returns maximal count of idle inflaters kept in pool
+     *
+     * @return pool capacity
+     * @since 0.1.4
+     */
+    public int getCapacity() {
+        return pool.getCapacity();
+    }
+
+    /**
+     * Returns current count of idle inflaters in pool
+     *
+     * @return idle inflaters count
+     * @since 0.1.4
+     */
+    public int getIdleCount() {
+        return pool.getIdleCount();
+    }
+
+    /**
+     * Returns count of acquisitions served with pooled inflater
+     *
+     * @return pool hits count
+     * @since 0.1.4
+     */
+    public long getHits() {
+        return pool.getHits();
+    }
+
+    /**
+     * Returns count of acquisitions that required new inflater creation
+     *
+     * @return pool misses count
+     * @since 0.1.4
+     */
+    public long getMisses() {
+        return pool.getMisses();
+    }
+}
@@ -0,0 +1,244 @@
+package com.hijackermax.utils.compression;
+
+import java.util.Objects;
+
+/**
+ * Pure Java implementation of LZ4 block format compression, compressed blocks are compatible with
+ * LZ4_compress_default / LZ4_decompress_safe of the reference library. Description of the format can be
+ * found <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Block_format.md">here</a>
+ *
+ * @since 0.1.4
+ */
+public final class Lz4Block {
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 0xffff;
+    private static final int RUN_MASK = 0x0f;
+    private static final int MIN_HASH_LOG = 8;
+    private static final int MAX_HASH_LOG = 14;
+    private static final int SKIP_TRIGGER = 6;
+
+    private Lz4Block() {
+    }
+
+    /**
+     * Returns maximal length of compressed block for provided source length
+     *
+     * @param length source length
+     * @return maximal compressed block length
+     * @throws IllegalArgumentException if length is negative
+     * @since 0.1.4
+     */
+    public static int maxCompressedLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length cannot be negative");
+        }
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses source range to LZ4 block and writes it to target starting from provided offset
+     *
+     * @param source       byte array that needs to be compressed
+     * @param sourceOffset start of source range
+     * @param sourceLength length of source range
+     * @param target       target byte array, at least {@link #maxCompressedLength(int)} bytes should be available
+     * @param targetOffset start position in target
+     * @return length of compressed block
+     * @throws IndexOutOfBoundsException if source range is out of bounds or target is too small
+     * @since 0.1.4
+     */
+    public static int compress(byte[] source, int sourceOffset, int sourceLength, byte[] target, int targetOffset) {
+        Objects.checkFromIndexSize(sourceOffset, sourceLength, source.length);
+        Objects.checkFromIndexSize(targetOffset, maxCompressedLength(sourceLength), target.length);
+        int end = sourceOffset + sourceLength;
+        int anchor = sourceOffset;
+        int position = targetOffset;
+        if (sourceLength > MF_LIMIT) {
+            int hashLog = hashLog(sourceLength);
+            int[] table = new int[1 << hashLog];
+            int matchStartLimit = end - MF_LIMIT;
+            int matchEndLimit = end - LAST_LITERALS;
+            int current = sourceOffset + 1;
+            int searchSteps = 1 << SKIP_TRIGGER;
+            while (current <= matchStartLimit) {
+                int sequence = readInt(source, current);
+                int hash = hash(sequence, hashLog);
+                int reference = sourceOffset + table[hash];
+                table[hash] = current - sourceOffset;
+                if (current - reference > MAX_DISTANCE || readInt(source, reference) != sequence) {
+                    current += searchSteps++ >>> SKIP_TRIGGER;
+                    continue;
+                }
+                searchSteps = 1 << SKIP_TRIGGER;
+                while (current > anchor && reference > sourceOffset && source[current - 1] == source[reference - 1]) {
+                    current--;
+                    reference--;
+                }
+                int matchLength = MIN_MATCH;
+                while (current + matchLength < matchEndLimit
+                        && source[current + matchLength] == source[reference + matchLength]) {
+                    matchLength++;
+                }
+                int tokenPosition = position;
+                position = writeLiterals(source, anchor, current - anchor, target, position);
+                int distance = current - reference;
+                target[position++] = (byte) distance;
+                target[position++] = (byte) (distance >>> 8);
+                int matchCode = matchLength - MIN_MATCH;
+                if (matchCode >= RUN_MASK) {
+                    target[tokenPosition] |= RUN_MASK;
+                    position = writeLength(target, position, matchCode - RUN_MASK);
+                } else {
+                    target[tokenPosition] |= (byte) matchCode;
+                }
+                current += matchLength;
+                anchor = current;
+                if (current <= matchStartLimit) {
+                    table[hash(readInt(source, current - 2), hashLog)] = current - 2 - sourceOffset;
+                }
+            }
+        }
+        position = writeLiterals(source, anchor, end - anchor, target, position);
+        return position - targetOffset;
+    }
+
+    /**
+     * Decompresses LZ4 block from source range to target range, block should produce exactly target length bytes
+     *
+     * @param source       byte array with LZ4 block
+     * @param sourceOffset start of LZ4 block
+     * @param sourceLength length of LZ4 block
+     * @param target       target byte array
+     * @param targetOffset start position in target
+     * @param targetLength expected decompressed length
+     * @throws IllegalArgumentException if block is malformed or does not match expected decompressed length
+     * @throws IndexOutOfBoundsException if source or target range is out of bounds
+     * @since 0.1.4
+     */
+    public static void decompress(byte[] source, int sourceOffset, int sourceLength,
+                                  byte[] target, int targetOffset, int targetLength) {
+        Objects.checkFromIndexSize(sourceOffset, sourceLength, source.length);
+        Objects.checkFromIndexSize(targetOffset, targetLength, target.length);
+        int sourceEnd = sourceOffset + sourceLength;
+        int targetEnd = targetOffset + targetLength;
+        int sourcePosition = sourceOffset;
+        int targetPosition = targetOffset;
+        while (true) {
+            if (sourcePosition == sourceEnd) {
+                throw new IllegalArgumentException("Unexpected end of LZ4 block");
+            }
+            int token = source[sourcePosition++] & 0xff;
+            int literalsLength = token >>> 4;
+            if (RUN_MASK == literalsLength) {
+                long length = readLength(source, sourcePosition, sourceEnd, literalsLength);
+                sourcePosition += lengthBytes(length, literalsLength);
+                literalsLength = checkedLength(length, targetEnd - targetPosition);
+            }
+            if (literalsLength > sourceEnd - sourcePosition || literalsLength > targetEnd - targetPosition) {
+                throw new IllegalArgumentException("Malformed LZ4 block, literals are out of bounds");
+            }
+            System.arraycopy(source, sourcePosition, target, targetPosition, literalsLength);
+            sourcePosition += literalsLength;
+            targetPosition += literalsLength;
+            if (sourcePosition == sourceEnd) {
+                break;
+            }
+            if (sourceEnd - sourcePosition < 2) {
+                throw new IllegalArgumentException("Unexpected end of LZ4 block");
+            }
+            int distance = (source[sourcePosition] & 0xff) | (source[sourcePosition + 1] & 0xff) << 8;
+            sourcePosition += 2;
+            if (0 == distance || distance > targetPosition - targetOffset) {
+                throw new IllegalArgumentException("Malformed LZ4 block, match offset is out of bounds");
+            }
+            int matchLength = token & RUN_MASK;
+            if (RUN_MASK == matchLength) {
+                long length = readLength(source, sourcePosition, sourceEnd, matchLength);
+                sourcePosition += lengthBytes(length, matchLength);
+                matchLength = checkedLength(length, targetEnd - targetPosition);
+            }
+            matchLength += MIN_MATCH;
+            if (matchLength > targetEnd - targetPosition) {
+                throw new IllegalArgumentException("Malformed LZ4 block, match is out of bounds");
+            }
+            copyMatch(target, targetPosition - distance, targetPosition, matchLength);
+            targetPosition += matchLength;
+        }
+        if (targetPosition != targetEnd) {
+            throw new IllegalArgumentException("LZ4 block decompressed length does not match expected length");
+        }
+    }
+
+    private static void copyMatch(byte[] target, int from, int to, int length) {
+        if (to - from >= length) {
+            System.arraycopy(target, from, target, to, length);
+            return;
+        }
+        for (int idx = 0; idx < length; idx++) {
+            target[to + idx] = target[from + idx];
+        }
+    }
+
+    private static int writeLiterals(byte[] source, int from, int literalsLength, byte[] target, int position) {
+        int tokenPosition = position++;
+        if (literalsLength >= RUN_MASK) {
+            target[tokenPosition] = (byte) (RUN_MASK << 4);
+            position = writeLength(target, position, literalsLength - RUN_MASK);
+        } else {
+            target[tokenPosition] = (byte) (literalsLength << 4);
+        }
+        System.arraycopy(source, from, target, position, literalsLength);
+        return position + literalsLength;
+    }
+
+    private static int writeLength(byte[] target, int position, int length) {
+        while (length >= 0xff) {
+            target[position++] = (byte) 0xff;
+            length -= 0xff;
+        }
+        target[position++] = (byte) length;
+        return position;
+    }
+
+    private static long readLength(byte[] source, int position, int end, int initial) {
+        long length = initial;
+        int value;
+        do {
+            if (position == end) {
+                throw new IllegalArgumentException("Unexpected end of LZ4 block");
+            }
+            value = source[position++] & 0xff;
+            length += value;
+        } while (0xff == value && length <= Integer.MAX_VALUE);
+        return length;
+    }
+
+    private static int lengthBytes(long length, int initial) {
+        return (int) ((length - initial) / 0xff + 1);
+    }
+
+    private static int checkedLength(long length, int available) {
+        if (length > available) {
+            throw new IllegalArgumentException("Malformed LZ4 block, length is out of bounds");
+        }
+        return (int) length;
+    }
+
+    private static int hashLog(int length) {
+        int log = 32 - Integer.numberOfLeadingZeros(length - 1);
+        return Math.max(MIN_HASH_LOG, Math.min(MAX_HASH_LOG, log));
+    }
+
+    private static int hash(int sequence, int hashLog) {
+        return (sequence * -1640531535) >>> (32 - hashLog);
+    }
+
+    private static int readInt(byte[] source, int offset) {
+        return (source[offset] & 0xff)
+                | (source[offset + 1] & 0xff) << 8
+                | (source[offset + 2] & 0xff) << 16
+                | (source[offset + 3] & 0xff) << 24;
+    }
+}
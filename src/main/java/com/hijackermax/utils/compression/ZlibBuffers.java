@@ -0,0 +1,183 @@
+package com.hijackermax.utils.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Helpers that run {@link Deflater} and {@link Inflater} over in-memory byte arrays with minimal buffer copies
+ */
+final class ZlibBuffers {
+    private static final int EXACT_BOUND_LIMIT = 1 << 16;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private ZlibBuffers() {
+    }
+
+    /**
+     * Deflates whole source with provided deflater, result array has provided count of unused leading and trailing bytes
+     * reserved for format header and trailer
+     */
+    static byte[] deflate(Deflater deflater, byte[] source, int headerLength, int trailerLength) {
+        byte[] target = new byte[headerLength + deflateBound(source.length) + trailerLength];
+        int position = headerLength;
+        deflater.setInput(source);
+        deflater.finish();
+        while (!deflater.finished()) {
+            if (position == target.length) {
+                target = grow(target, position + 1);
+            }
+            position += deflater.deflate(target, position, target.length - position);
+        }
+        return position + trailerLength == target.length ? target : Arrays.copyOf(target, position + trailerLength);
+    }
+
+    /**
+     * Deflates source range with provided deflater and appends deflated bytes to output, output buffer is reused
+     */
+    static void deflate(Deflater deflater, byte[] source, int offset, int length, Output output) {
+        output.ensureCapacity(output.length + deflateBound(length));
+        deflater.setInput(source, offset, length);
+        deflater.finish();
+        while (!deflater.finished()) {
+            if (output.length == output.buffer.length) {
+                output.ensureCapacity(output.length + 1);
+            }
+            output.length += deflater.deflate(output.buffer, output.length, output.buffer.length - output.length);
+        }
+    }
+
+    /**
+     * Deflates source range as a part of deflate stream. If finish is false, output is terminated with sync flush
+     * marker, so it ends on byte boundary and can be followed by output of another deflater
+     */
+    static byte[] deflateBlock(Deflater deflater, byte[] source, int offset, int length, boolean finish) {
+        byte[] target = new byte[deflateBound(length) + 16];
+        int position = 0;
+        deflater.setInput(source, offset, length);
+        if (finish) {
+            deflater.finish();
+        }
+        while (true) {
+            if (position == target.length) {
+                target = grow(target, position + 1);
+            }
+            int available = target.length - position;
+            position += deflater.deflate(target, position, available, finish ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+            if (finish ? deflater.finished() : position < target.length) {
+                return position == target.length ? target : Arrays.copyOf(target, position);
+            }
+        }
+    }
+
+    /**
+     * Inflates single deflate stream from inflater input and appends inflated bytes to output
+     */
+    static void inflate(Inflater inflater, Output output) throws IOException {
+        while (!inflater.finished()) {
+            if (output.length == output.buffer.length) {
+                inflate(inflater, output.buffer, output.length);
+                if (inflater.finished()) {
+                    return;
+                }
+                output.grow();
+            }
+            int inflated = inflate(inflater, output.buffer, output.length);
+            if (0 == inflated && inflater.needsInput()) {
+                throw new EOFException("Unexpected end of ZLIB input stream");
+            }
+            output.length += inflated;
+        }
+    }
+
+    private static int inflate(Inflater inflater, byte[] target, int offset) throws ZipException {
+        try {
+            int inflated = inflater.inflate(target, offset, target.length - offset);
+            if (0 == inflated && inflater.needsDictionary()) {
+                throw new ZipException("Unexpected preset dictionary");
+            }
+            return inflated;
+        } catch (DataFormatException e) {
+            String message = e.getMessage();
+            throw new ZipException(null == message ? "Invalid ZLIB data format" : message);
+        }
+    }
+
+    /**
+     * Upper bound of raw deflate output length for small inputs and half of input length for big ones,
+     * output buffer grows if it is not enough
+     */
+    private static int deflateBound(int length) {
+        if (length > EXACT_BOUND_LIMIT) {
+            return length >>> 1;
+        }
+        return length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 13;
+    }
+
+    private static byte[] grow(byte[] source, int minLength) {
+        return grow(source, minLength, MAX_ARRAY_LENGTH);
+    }
+
+    private static byte[] grow(byte[] source, int minLength, long maxLength) {
+        if (minLength < 0 || minLength > MAX_ARRAY_LENGTH) {
+            throw new OutOfMemoryError("Required array length is too large");
+        }
+        long length = Math.max(minLength, Math.max(64L, source.length + ((long) source.length >> 1)));
+        return Arrays.copyOf(source, (int) Math.min(length, maxLength));
+    }
+
+    /**
+     * Growable inflate output buffer that cannot grow over length allowed by {@link DecompressionLimits}
+     */
+    static final class Output {
+        private final DecompressionLimits limits;
+        private final long compressedLength;
+        private final long maxLength;
+        private byte[] buffer;
+        private int length;
+
+        Output(int capacity) {
+            this(capacity, DecompressionLimits.UNLIMITED, 0);
+        }
+
+        Output(int capacity, DecompressionLimits limits, long compressedLength) {
+            this.limits = limits;
+            this.compressedLength = compressedLength;
+            this.maxLength = Math.min(limits.maxOutputBytes(compressedLength), MAX_ARRAY_LENGTH);
+            this.buffer = new byte[(int) Math.min(Math.max(0, capacity), maxLength)];
+        }
+
+        int length() {
+            return length;
+        }
+
+        void setLength(int length) {
+            this.length = length;
+        }
+
+        void ensureCapacity(int capacity) {
+            if (capacity > buffer.length) {
+                buffer = ZlibBuffers.grow(buffer, capacity);
+            }
+        }
+
+        byte[] buffer() {
+            return buffer;
+        }
+
+        private void grow() throws DecompressionLimitException {
+            if (buffer.length >= maxLength) {
+                throw new DecompressionLimitException(limits, compressedLength, length + 1L);
+            }
+            buffer = ZlibBuffers.grow(buffer, length + 1, maxLength);
+        }
+
+        byte[] toByteArray() {
+            return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+        }
+    }
+}
@@ -1,16 +1,10 @@
 package com.hijackermax.utils.encoders;
 
-import com.hijackermax.utils.entities.Tuple;
 import com.hijackermax.utils.lang.StringUtils;
 
-import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.Objects;
-import java.util.function.Consumer;
-
-import static com.hijackermax.utils.lang.MathUtils.add;
-import static com.hijackermax.utils.lang.MathUtils.subtract;
 
 /**
  * Binary-to-text encoding that is more space-efficient than base64, based on idea of Kevin Albertson
@@ -20,11 +14,28 @@ import static com.hijackermax.utils.lang.MathUtils.subtract;
 public final class Base122 {
     private static final byte[] INVALID_CHARS = {0x00, 0x0A, 0x0D, 0x22, 0x26, 0x5C};
     private static final byte K_SHORTENED = 0x07;
-    private static final byte STOP_BYTE = (byte) 0x80;
+    private static final long[] INVALID_CHARS_BITMAP = new long[2];
+    private static final BinaryTextCodec CODEC = new Codec();
+
+    static {
+        for (byte invalidChar : INVALID_CHARS) {
+            INVALID_CHARS_BITMAP[invalidChar >>> 6] |= 1L << invalidChar;
+        }
+    }
 
     private Base122() {
     }
 
+    /**
+     * Returns thread-safe {@link BinaryTextCodec} instance backed by Base122
+     *
+     * @return Base122 {@link BinaryTextCodec}
+     * @since 0.1.4
+     */
+    public static BinaryTextCodec codec() {
+        return CODEC;
+    }
+
     /**
      * Encodes provided byte array to Base122 UTF-8 {@link String}
      *
@@ -34,23 +45,40 @@ public final class Base122 {
      */
     public static String encode(byte[] source) {
         int dataLength = Objects.requireNonNull(source).length;
-        ByteArrayOutputStream result = new ByteArrayOutputStream(calculateEncodeBufferSize(dataLength));
-        Tuple<Integer, Integer> dataPointers = new Tuple<>(0, 0);
-        for (byte partition = nextPartition(source, dataLength, dataPointers); STOP_BYTE != partition; partition = nextPartition(source, dataLength, dataPointers)) {
-            int illegalIndex = Arrays.binarySearch(INVALID_CHARS, partition);
-            if (0 > illegalIndex) {
-                result.write(partition);
-                continue;
+        char[] result = new char[calculateEncodeBufferSize(dataLength)];
+        int resultIdx = 0;
+        long buffer = 0;
+        int bufferedBits = 0;
+        int dataIdx = 0;
+        int pendingPartition = -1;
+        while (true) {
+            while (bufferedBits <= 56 && dataIdx < dataLength) {
+                buffer = (buffer << 8) | (source[dataIdx++] & 0xFF);
+                bufferedBits += 8;
             }
-            byte nextSevenBits = nextPartition(source, dataLength, dataPointers);
-            byte firstByte = (byte) (0xC2 | (0x07 & (STOP_BYTE == nextSevenBits ? K_SHORTENED : illegalIndex)) << 2);
-            if (STOP_BYTE == nextSevenBits) {
-                nextSevenBits = partition;
+            int partition;
+            if (bufferedBits >= 7) {
+                bufferedBits -= 7;
+                partition = (int) (buffer >>> bufferedBits) & 0x7F;
+            } else if (bufferedBits > 0) {
+                partition = (int) (buffer << (7 - bufferedBits)) & 0x7F;
+                bufferedBits = 0;
+            } else {
+                break;
+            }
+            if (0 <= pendingPartition) {
+                result[resultIdx++] = (char) (0x80 | (illegalIndex(pendingPartition) << 8) | partition);
+                pendingPartition = -1;
+            } else if (isIllegal(partition)) {
+                pendingPartition = partition;
+            } else {
+                result[resultIdx++] = (char) partition;
             }
-            result.write(firstByte | ((nextSevenBits & 0x40) > 0 ? 1 : 0));
-            result.write(0x80 | (nextSevenBits & 0x3F));
         }
-        return result.toString(StandardCharsets.UTF_8);
+        if (0 <= pendingPartition) {
+            result[resultIdx++] = (char) (0x80 | (K_SHORTENED << 8) | pendingPartition);
+        }
+        return new String(result, 0, resultIdx);
     }
 
     /**
@@ -58,63 +86,97 @@ public final class Base122 {
      *
      * @param source UTF-8 {@link String}
      * @return decoded byte array
+     * @throws IllegalArgumentException if provided string is not base122 encoded
      * @since 0.0.6
      */
     public static byte[] decode(String source) {
         if (StringUtils.isBlank(source)) {
             return new byte[0];
         }
-        ByteArrayOutputStream result = new ByteArrayOutputStream(calculateDecodedBufferSize(source.length()));
-        Tuple<Integer, Integer> dataPointers = new Tuple<>(0, 0);
-        for (char nextChar : source.toCharArray()) {
+        int sourceLength = source.length();
+        long totalBits = 0;
+        for (int idx = 0; idx < sourceLength; idx++) {
+            char nextChar = source.charAt(idx);
+            if (nextChar > 0x7F) {
+                int illegalIndex = (nextChar >>> 8) & 0x07;
+                if (illegalIndex != K_SHORTENED && illegalIndex >= INVALID_CHARS.length) {
+                    throw new IllegalArgumentException("Provided source string is not Base122 encoded");
+                }
+                totalBits += illegalIndex != K_SHORTENED ? 14 : 7;
+            } else {
+                totalBits += 7;
+            }
+        }
+        byte[] result = new byte[(int) (totalBits >>> 3)];
+        int resultIdx = 0;
+        int buffer = 0;
+        int bufferedBits = 0;
+        for (int idx = 0; idx < sourceLength; idx++) {
+            char nextChar = source.charAt(idx);
             if (nextChar > 0x7F) {
                 int illegalIndex = (nextChar >>> 8) & 0x07;
                 if (illegalIndex != K_SHORTENED) {
-                    pushPartition(INVALID_CHARS[illegalIndex] << 1, dataPointers, result::write);
+                    buffer = (buffer << 7) | INVALID_CHARS[illegalIndex];
+                    bufferedBits += 7;
                 }
-                pushPartition((nextChar & 0x7F) << 1, dataPointers, result::write);
+                buffer = (buffer << 7) | (nextChar & 0x7F);
             } else {
-                pushPartition(nextChar << 1, dataPointers, result::write);
+                buffer = (buffer << 7) | nextChar;
+            }
+            bufferedBits += 7;
+            while (bufferedBits >= 8) {
+                bufferedBits -= 8;
+                result[resultIdx++] = (byte) (buffer >>> bufferedBits);
             }
         }
-        return result.toByteArray();
+        return result;
     }
 
-    private static byte nextPartition(byte[] data, int length, Tuple<Integer, Integer> dataPointers) {
-        if (dataPointers.getKey() >= length) {
-            return STOP_BYTE;
-        }
-        int firstPart = (((0xFE >>> dataPointers.getValue()) & (data[dataPointers.getKey()] & 0xFF))
-                << dataPointers.getValue()) >>> 1;
-        dataPointers.modifyValue(add(7));
-        if (dataPointers.getValue() < 8) {
-            return (byte) firstPart;
-        }
-        dataPointers.modifyValue(subtract(8));
-        dataPointers.modifyKey(add(1));
-        if (dataPointers.getKey() >= length) {
-            return (byte) firstPart;
-        }
-        int secondPart = (((0xFF00 >>> dataPointers.getValue()) & (data[dataPointers.getKey()] & 0xFF)) & 0xFF)
-                >>> 8 - dataPointers.getValue();
-        return (byte) (firstPart | secondPart);
+    private static boolean isIllegal(int partition) {
+        return 0 != (INVALID_CHARS_BITMAP[partition >>> 6] & (1L << partition));
     }
 
-    private static void pushPartition(int nextValue, Tuple<Integer, Integer> dataPointers, Consumer<Byte> valueConsumer) {
-        dataPointers.modifyKey(k -> k | (nextValue >>> dataPointers.getValue()));
-        dataPointers.modifyValue(add(7));
-        if (dataPointers.getValue() >= 8) {
-            valueConsumer.accept((byte) (dataPointers.getKey() & 0xFF));
-            dataPointers.modifyValue(subtract(8));
-            dataPointers.setKey(nextValue << (7 - dataPointers.getValue()) & 0xFF);
+    private static int illegalIndex(int partition) {
+        int idx = 0;
+        while (INVALID_CHARS[idx] != partition) {
+            idx++;
         }
+        return idx;
     }
 
     private static int calculateEncodeBufferSize(int byteArrayLength) {
-        return byteArrayLength + (byteArrayLength / 7);
+        return (int) ((byteArrayLength * 8L + 6) / 7);
     }
 
-    private static int calculateDecodedBufferSize(int stringLength) {
-        return (stringLength * 7) >> 3;
+    private static final class Codec implements BinaryTextCodec {
+        @Override
+        public String name() {
+            return "base122";
+        }
+
+        @Override
+        public String encode(byte[] source) {
+            return Base122.encode(source);
+        }
+
+        @Override
+        public byte[] decode(String source) {
+            return Base122.decode(source);
+        }
+
+        @Override
+        public int maxEncodedLength(int byteArrayLength) {
+            return calculateEncodeBufferSize(byteArrayLength) + 1;
+        }
+
+        @Override
+        public int maxDecodedLength(int encodedLength) {
+            return (int) (encodedLength * 14L / 8);
+        }
+
+        @Override
+        public Charset charset() {
+            return StandardCharsets.UTF_8;
+        }
     }
 }
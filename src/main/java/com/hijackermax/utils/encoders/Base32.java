@@ -1,17 +1,15 @@
 package com.hijackermax.utils.encoders;
 
-import com.hijackermax.utils.entities.Tuple;
-import com.hijackermax.utils.lang.ObjectUtils;
+import com.hijackermax.utils.internal.ParallelSlices;
 import com.hijackermax.utils.lang.StringUtils;
 
-import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.concurrent.ForkJoinPool;
 
-import static com.hijackermax.utils.lang.MathUtils.add;
-import static com.hijackermax.utils.lang.MathUtils.subtract;
+import static com.hijackermax.utils.lang.NumberUtils.requireGreaterThanZero;
 
 /**
  * Binary-to-text encoding based on variant of Douglas Crockford, without check
@@ -19,14 +17,42 @@ import static com.hijackermax.utils.lang.MathUtils.subtract;
  * @since 0.0.7
  */
 public final class Base32 {
-    private static final char[] CHARSET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final byte[] CHARSET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
     private static final byte[] IGNORED_CHARS = {0x09, 0x0A, 0x0B, 0x0C, 0x0D, 0x20, 0x2D};
     private static final Map<Character, Integer> ALIASES = Map.of('O', 0, 'I', 1, 'L', 1);
-    private static final byte STOP_BYTE = (byte) 0x5B;
+    private static final byte INVALID_CHAR = -1;
+    private static final byte IGNORED_CHAR = -2;
+    private static final byte[] DECODE_TABLE = new byte[128];
+    private static final BinaryTextCodec CODEC = new Codec();
+
+    static {
+        Arrays.fill(DECODE_TABLE, INVALID_CHAR);
+        for (byte ignoredChar : IGNORED_CHARS) {
+            DECODE_TABLE[ignoredChar] = IGNORED_CHAR;
+        }
+        for (int idx = 0; idx < CHARSET.length; idx++) {
+            DECODE_TABLE[CHARSET[idx]] = (byte) idx;
+            DECODE_TABLE[Character.toLowerCase(CHARSET[idx])] = (byte) idx;
+        }
+        ALIASES.forEach((alias, value) -> {
+            DECODE_TABLE[alias] = value.byteValue();
+            DECODE_TABLE[Character.toLowerCase(alias)] = value.byteValue();
+        });
+    }
 
     private Base32() {
     }
 
+    /**
+     * Returns thread-safe {@link BinaryTextCodec} instance backed by Base32
+     *
+     * @return Base32 {@link BinaryTextCodec}
+     * @since 0.1.4
+     */
+    public static BinaryTextCodec codec() {
+        return CODEC;
+    }
+
     /**
      * Encodes provided byte array to Base32 String {@link String}
      *
@@ -36,12 +62,48 @@ public final class Base32 {
      */
     public static String encode(byte[] source) {
         int dataLength = Objects.requireNonNull(source).length;
-        StringBuilder result = new StringBuilder(calculateEncodeBufferSize(dataLength));
-        Tuple<Integer, Integer> pointers = new Tuple<>(0, 0);
-        for (byte partition = nextPartition(source, pointers); STOP_BYTE != partition; partition = nextPartition(source, pointers)) {
-            result.append(CHARSET[partition]);
+        byte[] result = new byte[calculateEncodeBufferSize(dataLength)];
+        encodeBlocks(source, 0, dataLength, result, 0);
+        return new String(result, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Encodes provided byte array to Base32 String {@link String} splitting it to slices of 5 bytes blocks,
+     * that are encoded concurrently on provided {@link ForkJoinPool}, sources shorter than 1 MiB are encoded serially
+     *
+     * @param source byte array
+     * @param pool   {@link ForkJoinPool} that should be used for encoding
+     * @return encoded {@link String}
+     * @since 0.1.4
+     */
+    public static String encodeParallel(byte[] source, ForkJoinPool pool) {
+        return encodeParallel(source, pool, ParallelPartitions.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Encodes provided byte array to Base32 String {@link String} splitting it to slices of 5 bytes blocks,
+     * that are encoded concurrently on provided {@link ForkJoinPool}
+     *
+     * @param source    byte array
+     * @param pool      {@link ForkJoinPool} that should be used for encoding
+     * @param threshold minimal source length for parallel encoding and minimal slice length, shorter sources are encoded serially
+     * @return encoded {@link String}
+     * @throws IllegalArgumentException if threshold is not greater than zero
+     * @since 0.1.4
+     */
+    public static String encodeParallel(byte[] source, ForkJoinPool pool, int threshold) {
+        int dataLength = Objects.requireNonNull(source).length;
+        Objects.requireNonNull(pool);
+        if (dataLength < requireGreaterThanZero(threshold)) {
+            return encode(source);
         }
-        return result.toString();
+        byte[] result = new byte[calculateEncodeBufferSize(dataLength)];
+        int sliceLength = ParallelPartitions.sliceLength(dataLength, 5, threshold, pool);
+        ParallelSlices.forEachSlice(pool, ParallelPartitions.slicesCount(dataLength, sliceLength), slice -> {
+            int from = slice * sliceLength;
+            encodeBlocks(source, from, Math.min(from + sliceLength, dataLength), result, from / 5 * 8);
+        });
+        return new String(result, StandardCharsets.US_ASCII);
     }
 
 
@@ -57,58 +119,180 @@ public final class Base32 {
         if (StringUtils.isBlank(source)) {
             return new byte[0];
         }
-        ByteArrayOutputStream result = new ByteArrayOutputStream(calculateDecodedBufferSize(source.length()));
-        Tuple<Integer, Integer> dataHolder = new Tuple<>(0, 0);
-        for (char nextChar : source.toCharArray()) {
-            if (0 <= Arrays.binarySearch(IGNORED_CHARS, (byte) nextChar)) {
+        int partitionsCount = countPartitions(source, 0, source.length());
+        byte[] result = new byte[calculateDecodedBufferSize(partitionsCount)];
+        decodePartitions(source, 0, 0, partitionsCount, result, 0);
+        return result;
+    }
+
+    /**
+     * Decodes provided {@link String} to byte array splitting it to slices, that are decoded concurrently
+     * on provided {@link ForkJoinPool}, sources shorter than 1 MiB are decoded serially
+     *
+     * @param source {@link String}
+     * @param pool   {@link ForkJoinPool} that should be used for decoding
+     * @return decoded byte array
+     * @throws IllegalArgumentException if provided string is not base32 encoded
+     * @since 0.1.4
+     */
+    public static byte[] decodeParallel(String source, ForkJoinPool pool) {
+        return decodeParallel(source, pool, ParallelPartitions.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Decodes provided {@link String} to byte array splitting it to slices, that are decoded concurrently
+     * on provided {@link ForkJoinPool}
+     *
+     * @param source    {@link String}
+     * @param pool      {@link ForkJoinPool} that should be used for decoding
+     * @param threshold minimal source length for parallel decoding and minimal slice length, shorter sources are decoded serially
+     * @return decoded byte array
+     * @throws IllegalArgumentException if provided string is not base32 encoded or threshold is not greater than zero
+     * @since 0.1.4
+     */
+    public static byte[] decodeParallel(String source, ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(pool);
+        requireGreaterThanZero(threshold);
+        if (StringUtils.isBlank(source) || source.length() < threshold) {
+            return decode(source);
+        }
+        int sourceLength = source.length();
+        int sliceLength = ParallelPartitions.sliceLength(sourceLength, 8, threshold, pool);
+        int slicesCount = ParallelPartitions.slicesCount(sourceLength, sliceLength);
+        int[] partitionsOffsets = new int[slicesCount + 1];
+        ParallelSlices.forEachSlice(pool, slicesCount, slice -> {
+            int from = slice * sliceLength;
+            partitionsOffsets[slice + 1] = countPartitions(source, from, Math.min(from + sliceLength, sourceLength));
+        });
+        for (int slice = 0; slice < slicesCount; slice++) {
+            partitionsOffsets[slice + 1] += partitionsOffsets[slice];
+        }
+        int partitionsCount = partitionsOffsets[slicesCount];
+        byte[] result = new byte[calculateDecodedBufferSize(partitionsCount)];
+        ParallelSlices.forEachSlice(pool, slicesCount, slice -> {
+            int firstPartition = alignToBlock(partitionsOffsets[slice]);
+            int lastPartition = Math.min(alignToBlock(partitionsOffsets[slice + 1]), partitionsCount);
+            if (firstPartition < lastPartition) {
+                decodePartitions(source, slice * sliceLength, firstPartition - partitionsOffsets[slice],
+                        lastPartition - firstPartition, result, firstPartition / 8 * 5);
+            }
+        });
+        return result;
+    }
+
+    private static void encodeBlocks(byte[] source, int from, int to, byte[] target, int targetOffset) {
+        int targetIdx = targetOffset;
+        int blocksEnd = to - (to - from) % 5;
+        for (int idx = from; idx < blocksEnd; idx += 5) {
+            long block = ((long) (source[idx] & 0xFF) << 32)
+                    | ((long) (source[idx + 1] & 0xFF) << 24)
+                    | ((source[idx + 2] & 0xFF) << 16)
+                    | ((source[idx + 3] & 0xFF) << 8)
+                    | (source[idx + 4] & 0xFF);
+            for (int shift = 35; shift >= 0; shift -= 5) {
+                target[targetIdx++] = CHARSET[(int) (block >>> shift) & 0x1F];
+            }
+        }
+        if (blocksEnd != to) {
+            long block = 0;
+            for (int idx = blocksEnd; idx < blocksEnd + 5; idx++) {
+                block = (block << 8) | (idx < to ? source[idx] & 0xFF : 0);
+            }
+            int targetEnd = targetIdx + calculateEncodeBufferSize(to - blocksEnd);
+            for (int shift = 35; targetIdx < targetEnd; shift -= 5) {
+                target[targetIdx++] = CHARSET[(int) (block >>> shift) & 0x1F];
+            }
+        }
+    }
+
+    private static int countPartitions(String source, int from, int to) {
+        int partitionsCount = 0;
+        for (int idx = from; idx < to; idx++) {
+            int partition = toPartition(source.charAt(idx));
+            if (IGNORED_CHAR == partition) {
                 continue;
             }
-            char upperCaseChar = Character.toUpperCase(nextChar);
-            int idx = Arrays.binarySearch(CHARSET, upperCaseChar);
-            int partition = idx >= 0 ? idx : ObjectUtils.valueOrDefault(ALIASES.get(upperCaseChar), -1);
             if (0 > partition) {
                 throw new IllegalArgumentException("Provided source string is not Base32 encoded");
             }
-            pushPartition(partition << 3, dataHolder, result::write);
+            partitionsCount++;
         }
-        return result.toByteArray();
+        return partitionsCount;
     }
 
-    private static byte nextPartition(byte[] data, Tuple<Integer, Integer> pointers) {
-        if (pointers.getKey() >= data.length) {
-            return STOP_BYTE;
-        }
-        int firstPart = (((0xFE >>> pointers.getValue()) & (data[pointers.getKey()] & 0xFF))
-                << pointers.getValue()) >>> 3;
-        pointers.modifyValue(add(5));
-        if (pointers.getValue() < 8) {
-            return (byte) firstPart;
-        }
-        pointers.modifyValue(subtract(8));
-        pointers.modifyKey(add(1));
-        if (pointers.getKey() >= data.length) {
-            return (byte) firstPart;
+    /**
+     * Skips provided count of partitions starting from provided source index and decodes next partitions count to target
+     */
+    private static void decodePartitions(String source, int from, int skipPartitions, int partitionsCount,
+                                         byte[] target, int targetOffset) {
+        int targetIdx = targetOffset;
+        int buffer = 0;
+        int bufferedBits = 0;
+        int skippedPartitions = 0;
+        int decodedPartitions = 0;
+        for (int idx = from; decodedPartitions < partitionsCount; idx++) {
+            int partition = toPartition(source.charAt(idx));
+            if (0 > partition) {
+                continue;
+            }
+            if (skippedPartitions < skipPartitions) {
+                skippedPartitions++;
+                continue;
+            }
+            decodedPartitions++;
+            buffer = (buffer << 5) | partition;
+            bufferedBits += 5;
+            if (bufferedBits >= 8) {
+                bufferedBits -= 8;
+                target[targetIdx++] = (byte) (buffer >>> bufferedBits);
+            }
         }
-        int secondPart = (((0xFF00 >>> pointers.getValue()) & (data[pointers.getKey()] & 0xFF)) & 0xFF)
-                >>> 8 - pointers.getValue();
-        return (byte) (firstPart | secondPart);
     }
 
-    private static void pushPartition(int nextValue, Tuple<Integer, Integer> dataHolder, Consumer<Byte> valueConsumer) {
-        dataHolder.modifyValue(k -> k | (nextValue >> dataHolder.getKey()));
-        dataHolder.modifyKey(add(5));
-        if (dataHolder.getKey() >= 8) {
-            valueConsumer.accept((byte) (dataHolder.getValue() & 0xFF));
-            dataHolder.modifyKey(subtract(8));
-            dataHolder.setValue(nextValue << (5 - dataHolder.getKey()) & 0xFF);
+    private static int alignToBlock(int partitionIdx) {
+        return (partitionIdx + 7) & ~7;
+    }
+
+    private static int toPartition(char value) {
+        if (value < DECODE_TABLE.length) {
+            return DECODE_TABLE[value];
         }
+        char upperCaseChar = Character.toUpperCase(value);
+        return upperCaseChar < DECODE_TABLE.length ? Math.max(DECODE_TABLE[upperCaseChar], INVALID_CHAR) : INVALID_CHAR;
     }
 
     private static int calculateEncodeBufferSize(int byteArrayLength) {
-        return ((byteArrayLength * 8) / 5) + 7;
+        return (int) ((byteArrayLength * 8L + 4) / 5);
     }
 
     private static int calculateDecodedBufferSize(int stringLength) {
-        return (stringLength * 5) / 8;
+        return (int) ((stringLength * 5L) / 8);
+    }
+
+    private static final class Codec implements BinaryTextCodec {
+        @Override
+        public String name() {
+            return "base32";
+        }
+
+        @Override
+        public String encode(byte[] source) {
+            return Base32.encode(source);
+        }
+
+        @Override
+        public byte[] decode(String source) {
+            return Base32.decode(source);
+        }
+
+        @Override
+        public int maxEncodedLength(int byteArrayLength) {
+            return calculateEncodeBufferSize(byteArrayLength);
+        }
+
+        @Override
+        public int maxDecodedLength(int encodedLength) {
+            return calculateDecodedBufferSize(encodedLength);
+        }
     }
 }
@@ -2,8 +2,8 @@ package com.hijackermax.utils.encoders;
 
 import com.hijackermax.utils.lang.StringUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -14,11 +14,55 @@ import java.util.Objects;
  */
 public final class Base58 {
     private static final char[] CHARSET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
-    private static final BigInteger FIFTY_EIGHT = BigInteger.valueOf(58L);
+    private static final byte[] DIGITS = new byte[128];
+    private static final int LIMB_DIGITS = 5;
+    private static final long LIMB_BASE = 656356768L;
+    private static final int[] POWERS_58 = {1, 58, 3364, 195112, 11316496, 656356768};
+    private static final double BITS_PER_DIGIT = Math.log(58) / Math.log(2);
+    private static final int LEAF_DIGITS = LIMB_DIGITS * 64;
+    private static final int DIVIDE_AND_CONQUER_THRESHOLD = 2048;
+    private static final BinaryTextCodec CODEC = new Codec();
+
+    static {
+        Arrays.fill(DIGITS, (byte) -1);
+        for (int idx = 0; idx < CHARSET.length; idx++) {
+            DIGITS[CHARSET[idx]] = (byte) idx;
+        }
+    }
 
     private Base58() {
     }
 
+    /**
+     * Returns thread-safe {@link BinaryTextCodec} instance backed by Base58
+     *
+     * @return Base58 {@link BinaryTextCodec}
+     * @since 0.1.4
+     */
+    public static BinaryTextCodec codec() {
+        return CODEC;
+    }
+
+    /**
+     * Checks if provided {@link CharSequence} is not empty and consists only of Base58 charset characters,
+     * without decoding it
+     *
+     * @param source {@link CharSequence} to check
+     * @return true if source is Base58 encoded, false if it is null, empty or contains characters outside Base58 charset
+     * @since 0.1.4
+     */
+    public static boolean isValid(CharSequence source) {
+        if (null == source || 0 == source.length()) {
+            return false;
+        }
+        for (int idx = 0; idx < source.length(); idx++) {
+            if (0 > toDigit(source.charAt(idx))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Encodes provided byte array to Base58 ASCII {@link String}
      *
@@ -31,28 +75,28 @@ public final class Base58 {
         if (0 == dataLength) {
             return StringUtils.EMPTY;
         }
-        ByteArrayOutputStream bufferStream = new ByteArrayOutputStream(calculateEncodeBufferSize(dataLength));
-        BigInteger reminder = new BigInteger(1, source);
-        while (reminder.compareTo(BigInteger.ZERO) > 0) {
-            int idx = reminder.mod(FIFTY_EIGHT).intValue();
-            reminder = reminder.divide(FIFTY_EIGHT);
-            bufferStream.write(CHARSET[idx]);
-        }
-        byte[] buffer = bufferStream.toByteArray();
-        StringBuilder result = new StringBuilder();
-        boolean isLeadingZero = true;
-        for (int idx = buffer.length - 1; idx >= 0; idx--) {
-            byte nextByte = buffer[idx];
-            if (isLeadingZero) {
-                boolean isByteZero = 0 == nextByte;
-                if (isByteZero) {
-                    result.insert(0, (char) 0x31);
-                }
-                isLeadingZero = isByteZero;
-            }
-            result.append((char) nextByte);
+        int offset = 0;
+        while (offset < dataLength && 0 == source[offset]) {
+            offset++;
         }
-        return result.toString();
+        if (offset == dataLength) {
+            return StringUtils.EMPTY;
+        }
+        int maxDigits = calculateEncodeBufferSize(dataLength - offset);
+        byte[] buffer = new byte[maxDigits];
+        if (dataLength - offset > DIVIDE_AND_CONQUER_THRESHOLD) {
+            encodeDigits(new BigInteger(1, source), maxDigits, buffer, maxDigits, new BigInteger[32]);
+        } else {
+            encodeLimbs(source, offset, dataLength - offset, buffer, maxDigits, maxDigits);
+        }
+        int start = 0;
+        while (start < maxDigits && 0 == buffer[start]) {
+            start++;
+        }
+        for (int idx = start; idx < maxDigits; idx++) {
+            buffer[idx] = (byte) CHARSET[buffer[idx]];
+        }
+        return new String(buffer, start, maxDigits - start, StandardCharsets.US_ASCII);
     }
 
 
@@ -68,34 +112,186 @@ public final class Base58 {
         if (StringUtils.isBlank(source)) {
             return new byte[0];
         }
-        ByteArrayOutputStream result = new ByteArrayOutputStream(calculateDecodedBufferSize(source.length()));
-        BigInteger buffer = BigInteger.ZERO;
+        int sourceLength = source.length();
+        byte[] digits = new byte[sourceLength];
+        int leadingOnes = 0;
         boolean isLeadingOne = true;
-        for (char nextChar : source.toCharArray()) {
-            int idx = Arrays.binarySearch(CHARSET, nextChar);
-            if (idx < 0) {
+        for (int idx = 0; idx < sourceLength; idx++) {
+            char nextChar = source.charAt(idx);
+            int digit = toDigit(nextChar);
+            if (digit < 0) {
                 throw new IllegalArgumentException("Provided source string is not Base58 encoded");
             }
             if (isLeadingOne) {
-                boolean isCharOne = 0x31 == nextChar;
-                if (isCharOne) {
-                    result.write(0x00);
+                isLeadingOne = 0 == digit;
+                if (isLeadingOne) {
+                    leadingOnes++;
                 }
-                isLeadingOne = isCharOne;
             }
-            buffer = buffer.multiply(FIFTY_EIGHT).add(BigInteger.valueOf(idx));
+            digits[idx] = (byte) digit;
+        }
+        int digitsLength = sourceLength - leadingOnes;
+        if (digitsLength > calculateEncodeBufferSize(DIVIDE_AND_CONQUER_THRESHOLD)) {
+            byte[] valueBytes = decodeDigits(digits, leadingOnes, sourceLength, new BigInteger[32]).toByteArray();
+            int offset = 0x00 == valueBytes[0] ? 1 : 0;
+            byte[] result = new byte[leadingOnes + valueBytes.length - offset];
+            System.arraycopy(valueBytes, offset, result, leadingOnes, valueBytes.length - offset);
+            return result;
+        }
+        int[] limbs = new int[calculateLimbsSize(digitsLength)];
+        int limbsLength = decodeLimbs(digits, leadingOnes, sourceLength, limbs);
+        int valueLength = 0;
+        if (0 != limbsLength) {
+            valueLength = (limbsLength - 1) * 4 + (39 - Integer.numberOfLeadingZeros(limbs[limbsLength - 1])) / 8;
+        }
+        byte[] result = new byte[leadingOnes + valueLength];
+        for (int idx = 0; idx < valueLength; idx++) {
+            result[result.length - 1 - idx] = (byte) (limbs[idx >>> 2] >>> ((idx & 0x03) << 3));
+        }
+        return result;
+    }
+
+    /**
+     * Writes Base58 digits of unsigned big-endian number from provided source range to target,
+     * right-aligned to target end and left-padded with zero digits down to target end minus digits count
+     */
+    private static void encodeLimbs(byte[] source, int offset, int length, byte[] target, int targetEnd, int digitsCount) {
+        int[] words = new int[(length + 3) >>> 2];
+        int headBytes = length - ((words.length - 1) << 2);
+        for (int idx = 0; idx < length; idx++) {
+            int wordIdx = (idx + 4 - headBytes) >>> 2;
+            words[wordIdx] = (words[wordIdx] << 8) | (source[offset + idx] & 0xFF);
+        }
+        int targetIdx = targetEnd;
+        int targetStart = targetEnd - digitsCount;
+        int firstWord = 0;
+        while (firstWord < words.length) {
+            long remainder = 0;
+            for (int idx = firstWord; idx < words.length; idx++) {
+                long current = (remainder << 32) | (words[idx] & 0xFFFFFFFFL);
+                words[idx] = (int) (current / LIMB_BASE);
+                remainder = current % LIMB_BASE;
+            }
+            while (firstWord < words.length && 0 == words[firstWord]) {
+                firstWord++;
+            }
+            for (int idx = 0; idx < LIMB_DIGITS && targetIdx > targetStart; idx++) {
+                target[--targetIdx] = (byte) (remainder % 58);
+                remainder /= 58;
+            }
         }
-        byte[] bufferBytes = buffer.toByteArray();
-        int offset = 0x00 == bufferBytes[0] ? 1 : 0;
-        result.write(bufferBytes, offset, bufferBytes.length - offset);
-        return result.toByteArray();
+        Arrays.fill(target, targetStart, targetIdx, (byte) 0);
+    }
+
+    /**
+     * Accumulates provided digits range to little-endian 32-bit limbs, returns count of used limbs
+     */
+    private static int decodeLimbs(byte[] digits, int from, int to, int[] limbs) {
+        int limbsLength = 0;
+        for (int idx = from; idx < to; idx += LIMB_DIGITS) {
+            int groupSize = Math.min(LIMB_DIGITS, to - idx);
+            long carry = 0;
+            for (int digitIdx = idx; digitIdx < idx + groupSize; digitIdx++) {
+                carry = carry * 58 + digits[digitIdx];
+            }
+            long multiplier = POWERS_58[groupSize];
+            for (int limbIdx = 0; limbIdx < limbsLength; limbIdx++) {
+                long current = (limbs[limbIdx] & 0xFFFFFFFFL) * multiplier + carry;
+                limbs[limbIdx] = (int) current;
+                carry = current >>> 32;
+            }
+            if (0 != carry) {
+                limbs[limbsLength++] = (int) carry;
+            }
+        }
+        return limbsLength;
+    }
+
+    private static void encodeDigits(BigInteger value, int digitsCount, byte[] target, int targetEnd, BigInteger[] powers) {
+        if (digitsCount <= LEAF_DIGITS) {
+            byte[] valueBytes = value.toByteArray();
+            encodeLimbs(valueBytes, 0, valueBytes.length, target, targetEnd, digitsCount);
+            return;
+        }
+        int powerIdx = 0;
+        while ((LEAF_DIGITS << (powerIdx + 1)) < digitsCount) {
+            powerIdx++;
+        }
+        int lowDigits = LEAF_DIGITS << powerIdx;
+        BigInteger[] quotientAndRemainder = value.divideAndRemainder(powerOf58(powerIdx, powers));
+        encodeDigits(quotientAndRemainder[1], lowDigits, target, targetEnd, powers);
+        encodeDigits(quotientAndRemainder[0], digitsCount - lowDigits, target, targetEnd - lowDigits, powers);
+    }
+
+    private static BigInteger decodeDigits(byte[] digits, int from, int to, BigInteger[] powers) {
+        int digitsCount = to - from;
+        if (digitsCount <= LEAF_DIGITS) {
+            int[] limbs = new int[calculateLimbsSize(digitsCount)];
+            int limbsLength = decodeLimbs(digits, from, to, limbs);
+            byte[] valueBytes = new byte[limbsLength << 2];
+            for (int idx = 0; idx < valueBytes.length; idx++) {
+                valueBytes[valueBytes.length - 1 - idx] = (byte) (limbs[idx >>> 2] >>> ((idx & 0x03) << 3));
+            }
+            return new BigInteger(1, valueBytes);
+        }
+        int powerIdx = 0;
+        while ((LEAF_DIGITS << (powerIdx + 1)) < digitsCount) {
+            powerIdx++;
+        }
+        int lowDigits = LEAF_DIGITS << powerIdx;
+        BigInteger high = decodeDigits(digits, from, to - lowDigits, powers);
+        BigInteger low = decodeDigits(digits, to - lowDigits, to, powers);
+        return high.multiply(powerOf58(powerIdx, powers)).add(low);
+    }
+
+    /**
+     * Returns 58^(LEAF_DIGITS * 2^powerIdx), computed by repeated squaring and cached in the provided per-call array
+     */
+    private static BigInteger powerOf58(int powerIdx, BigInteger[] powers) {
+        if (null == powers[powerIdx]) {
+            powers[powerIdx] = 0 == powerIdx
+                    ? BigInteger.valueOf(58L).pow(LEAF_DIGITS)
+                    : powerOf58(powerIdx - 1, powers).pow(2);
+        }
+        return powers[powerIdx];
+    }
+
+    private static int toDigit(char value) {
+        return value < DIGITS.length ? DIGITS[value] : -1;
+    }
+
+    private static int calculateLimbsSize(int digitsCount) {
+        return (int) Math.ceil(digitsCount * BITS_PER_DIGIT / 32) + 1;
     }
 
     private static int calculateEncodeBufferSize(int byteArrayLength) {
-        return byteArrayLength * 8 / 6;
+        return (int) Math.ceil(byteArrayLength * 8 / BITS_PER_DIGIT) + 1;
     }
 
-    private static int calculateDecodedBufferSize(int stringLength) {
-        return stringLength * 6 / 8;
+    private static final class Codec implements BinaryTextCodec {
+        @Override
+        public String name() {
+            return "base58";
+        }
+
+        @Override
+        public String encode(byte[] source) {
+            return Base58.encode(source);
+        }
+
+        @Override
+        public byte[] decode(String source) {
+            return Base58.decode(source);
+        }
+
+        @Override
+        public int maxEncodedLength(int byteArrayLength) {
+            return calculateEncodeBufferSize(byteArrayLength);
+        }
+
+        @Override
+        public int maxDecodedLength(int encodedLength) {
+            return encodedLength;
+        }
     }
 }
@@ -1,11 +1,21 @@
 package com.hijackermax.utils.encoders;
 
+import com.hijackermax.utils.internal.ParallelSlices;
 import com.hijackermax.utils.lang.StringUtils;
 
-import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.hijackermax.utils.lang.NumberUtils.requireGreaterThanZero;
 
 /**
  * Binary-to-text encoding that is more space-efficient than base64
@@ -16,10 +26,44 @@ public final class Base85 {
     private static final int CHAR_START_IDX = 0x21;
     private static final int[] POWERS_85 = {52200625, 614125, 7225, 85, 1};
     private static final byte[] IGNORED_CHARS = {0x09, 0x0A, 0x0B, 0x0C, 0x0D, 0x20};
+    private static final int STREAM_CHUNK_LENGTH = 8000;
+    private static final Encoder ENCODER = new Encoder();
+    private static final Decoder DECODER = new Decoder();
+    private static final BinaryTextCodec CODEC = new Codec();
 
     private Base85() {
     }
 
+    /**
+     * Returns {@link Encoder} that can wrap output streams for streaming Base85 encoding
+     *
+     * @return Base85 {@link Encoder}
+     * @since 0.1.4
+     */
+    public static Encoder encoder() {
+        return ENCODER;
+    }
+
+    /**
+     * Returns {@link Decoder} that can wrap input streams for streaming Base85 decoding
+     *
+     * @return Base85 {@link Decoder}
+     * @since 0.1.4
+     */
+    public static Decoder decoder() {
+        return DECODER;
+    }
+
+    /**
+     * Returns thread-safe {@link BinaryTextCodec} instance backed by Base85
+     *
+     * @return Base85 {@link BinaryTextCodec}
+     * @since 0.1.4
+     */
+    public static BinaryTextCodec codec() {
+        return CODEC;
+    }
+
     /**
      * Encodes provided byte array to Base85 ASCII {@link String}
      *
@@ -29,14 +73,105 @@ public final class Base85 {
      */
     public static String encode(byte[] source) {
         int dataLength = Objects.requireNonNull(source).length;
-        ByteArrayOutputStream result = new ByteArrayOutputStream(calculateEncodeBufferSize(dataLength));
-        for (int idx = 0; idx < dataLength; idx += 4) {
-            byte[] pagination = new byte[4];
-            int partitionSize = Math.min(dataLength - idx, 4);
-            System.arraycopy(source, idx, pagination, 0, partitionSize);
-            result.writeBytes(encodePartition(pagination, partitionSize));
+        byte[] result = new byte[encodedLength(source, 0, dataLength)];
+        encodePartitions(source, 0, dataLength, result, 0);
+        return new String(result, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Encodes provided range of source byte array to Base85 ASCII bytes and writes them to the target byte array
+     * starting from provided target offset, without any intermediate allocations
+     *
+     * @param source       byte array
+     * @param offset       offset of the first source byte that should be encoded
+     * @param length       count of source bytes that should be encoded
+     * @param target       byte array that should receive encoded ASCII bytes, must have enough space for encoded data
+     *                     after target offset, {@link Base85#maxEncodedLength(int)} bytes are always enough
+     * @param targetOffset offset in target byte array where encoded bytes should be written
+     * @return count of encoded bytes written to the target byte array
+     * @throws IndexOutOfBoundsException if source range is out of bounds or target has not enough space
+     * @since 0.1.4
+     */
+    public static int encodeInto(byte[] source, int offset, int length, byte[] target, int targetOffset) {
+        Objects.checkFromIndexSize(offset, length, Objects.requireNonNull(source).length);
+        Objects.checkIndex(targetOffset, Objects.requireNonNull(target).length + 1);
+        if (target.length - targetOffset < maxEncodedLength(length)) {
+            Objects.checkFromIndexSize(targetOffset, encodedLength(source, offset, length), target.length);
+        }
+        return encodePartitions(source, offset, length, target, targetOffset);
+    }
+
+    /**
+     * Encodes remaining bytes of source {@link ByteBuffer} to Base85 ASCII bytes and puts them to the target {@link ByteBuffer}.
+     * Position of source buffer is moved to its limit, position of target buffer is moved by count of written bytes.
+     *
+     * @param source {@link ByteBuffer} with bytes that should be encoded
+     * @param target {@link ByteBuffer} that should receive encoded ASCII bytes,
+     *               must have at least {@link Base85#maxEncodedLength(int)} bytes remaining
+     * @return count of encoded bytes written to the target {@link ByteBuffer}
+     * @throws BufferOverflowException if target buffer has not enough space remaining
+     * @since 0.1.4
+     */
+    public static int encode(ByteBuffer source, ByteBuffer target) {
+        int dataLength = Objects.requireNonNull(source).remaining();
+        if (Objects.requireNonNull(target).remaining() < maxEncodedLength(dataLength)) {
+            throw new BufferOverflowException();
+        }
+        if (source.hasArray() && target.hasArray()) {
+            int resultLength = encodeInto(source.array(), source.arrayOffset() + source.position(), dataLength,
+                    target.array(), target.arrayOffset() + target.position());
+            source.position(source.limit());
+            target.position(target.position() + resultLength);
+            return resultLength;
+        }
+        byte[] encodedPartition = new byte[5];
+        int resultLength = 0;
+        while (source.hasRemaining()) {
+            int partitionSize = Math.min(source.remaining(), 4);
+            long unsignedInt = 0;
+            for (int idx = 0; idx < 4; idx++) {
+                unsignedInt = (unsignedInt << 8) | (idx < partitionSize ? source.get() & 0xFF : 0);
+            }
+            int encodedSize = encodePartition(unsignedInt, partitionSize, encodedPartition, 0);
+            target.put(encodedPartition, 0, encodedSize);
+            resultLength += encodedSize;
         }
-        return result.toString(StandardCharsets.US_ASCII);
+        return resultLength;
+    }
+
+    /**
+     * Calculates exact length of Base85 encoded data for provided source byte array range, zero partitions are
+     * taken into account
+     *
+     * @param source byte array
+     * @param offset offset of the first source byte that should be encoded
+     * @param length count of source bytes that should be encoded
+     * @return exact length of encoded data
+     * @since 0.1.4
+     */
+    public static int encodedLength(byte[] source, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, Objects.requireNonNull(source).length);
+        int result = maxEncodedLength(length);
+        int partitionsEnd = offset + length - length % 4;
+        for (int idx = offset; idx < partitionsEnd; idx += 4) {
+            if (0 == (source[idx] | source[idx + 1] | source[idx + 2] | source[idx + 3])) {
+                result -= 4;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculates maximal length of Base85 encoded data for provided source length, actual length can be shorter
+     * because of zero partitions compression
+     *
+     * @param byteArrayLength length of source data
+     * @return maximal length of encoded data
+     * @since 0.1.4
+     */
+    public static int maxEncodedLength(int byteArrayLength) {
+        int remainder = byteArrayLength % 4;
+        return (byteArrayLength / 4) * 5 + (0 == remainder ? 0 : remainder + 1);
     }
 
 
@@ -52,75 +187,555 @@ public final class Base85 {
         if (StringUtils.isBlank(source)) {
             return new byte[0];
         }
-        ByteArrayOutputStream result = new ByteArrayOutputStream(calculateDecodedBufferSize(source.length()));
-        byte[] sourceBytes = source.getBytes(StandardCharsets.US_ASCII);
-        byte[] pagination = new byte[5];
+        byte[] result = new byte[decodedLength(source)];
+        decodeSlice(source, 0, source.length(), 0, result, 0);
+        return result;
+    }
+
+    /**
+     * Encodes provided byte array to Base85 ASCII {@link String} splitting it to slices of 4 bytes partitions,
+     * that are encoded concurrently on provided {@link ForkJoinPool}, sources shorter than 1 MiB are encoded serially
+     *
+     * @param source byte array
+     * @param pool   {@link ForkJoinPool} that should be used for encoding
+     * @return encoded ASCII {@link String}
+     * @since 0.1.4
+     */
+    public static String encodeParallel(byte[] source, ForkJoinPool pool) {
+        return encodeParallel(source, pool, ParallelPartitions.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Encodes provided byte array to Base85 ASCII {@link String} splitting it to slices of 4 bytes partitions,
+     * that are encoded concurrently on provided {@link ForkJoinPool}
+     *
+     * @param source    byte array
+     * @param pool      {@link ForkJoinPool} that should be used for encoding
+     * @param threshold minimal source length for parallel encoding and minimal slice length, shorter sources are encoded serially
+     * @return encoded ASCII {@link String}
+     * @throws IllegalArgumentException if threshold is not greater than zero
+     * @since 0.1.4
+     */
+    public static String encodeParallel(byte[] source, ForkJoinPool pool, int threshold) {
+        int dataLength = Objects.requireNonNull(source).length;
+        Objects.requireNonNull(pool);
+        if (dataLength < requireGreaterThanZero(threshold)) {
+            return encode(source);
+        }
+        int sliceLength = ParallelPartitions.sliceLength(dataLength, 4, threshold, pool);
+        int slicesCount = ParallelPartitions.slicesCount(dataLength, sliceLength);
+        int[] targetOffsets = new int[slicesCount + 1];
+        ParallelSlices.forEachSlice(pool, slicesCount, slice -> {
+            int from = slice * sliceLength;
+            targetOffsets[slice + 1] = encodedLength(source, from, Math.min(sliceLength, dataLength - from));
+        });
+        for (int slice = 0; slice < slicesCount; slice++) {
+            targetOffsets[slice + 1] += targetOffsets[slice];
+        }
+        byte[] result = new byte[targetOffsets[slicesCount]];
+        ParallelSlices.forEachSlice(pool, slicesCount, slice -> {
+            int from = slice * sliceLength;
+            encodePartitions(source, from, Math.min(sliceLength, dataLength - from), result, targetOffsets[slice]);
+        });
+        return new String(result, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Decodes provided ASCII {@link String} to byte array splitting it to slices, that are decoded concurrently
+     * on provided {@link ForkJoinPool}, sources shorter than 1 MiB are decoded serially
+     *
+     * @param source ASCII {@link String}
+     * @param pool   {@link ForkJoinPool} that should be used for decoding
+     * @return decoded byte array
+     * @throws IllegalArgumentException if provided string is not base85 encoded
+     * @since 0.1.4
+     */
+    public static byte[] decodeParallel(String source, ForkJoinPool pool) {
+        return decodeParallel(source, pool, ParallelPartitions.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Decodes provided ASCII {@link String} to byte array splitting it to slices, that are decoded concurrently
+     * on provided {@link ForkJoinPool}
+     *
+     * @param source    ASCII {@link String}
+     * @param pool      {@link ForkJoinPool} that should be used for decoding
+     * @param threshold minimal source length for parallel decoding and minimal slice length, shorter sources are decoded serially
+     * @return decoded byte array
+     * @throws IllegalArgumentException if provided string is not base85 encoded or threshold is not greater than zero
+     * @since 0.1.4
+     */
+    public static byte[] decodeParallel(String source, ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(pool);
+        requireGreaterThanZero(threshold);
+        if (StringUtils.isBlank(source) || source.length() < threshold) {
+            return decode(source);
+        }
+        int sourceLength = source.length();
+        int sliceLength = ParallelPartitions.sliceLength(sourceLength, 5, threshold, pool);
+        int slicesCount = ParallelPartitions.slicesCount(sourceLength, sliceLength);
+        int[] charsOffsets = new int[slicesCount + 1];
+        int[] placeholdersOffsets = new int[slicesCount + 1];
+        ParallelSlices.forEachSlice(pool, slicesCount, slice -> {
+            int from = slice * sliceLength;
+            int to = Math.min(from + sliceLength, sourceLength);
+            for (int idx = from; idx < to; idx++) {
+                char nextChar = source.charAt(idx);
+                if (isIgnored(nextChar)) {
+                    continue;
+                }
+                if (0x7A == nextChar) {
+                    placeholdersOffsets[slice + 1]++;
+                } else if (nextChar < 0x21 || nextChar > 0x75) {
+                    throw new IllegalArgumentException("Provided source string is not Base85 encoded");
+                } else {
+                    charsOffsets[slice + 1]++;
+                }
+            }
+        });
+        for (int slice = 0; slice < slicesCount; slice++) {
+            charsOffsets[slice + 1] += charsOffsets[slice];
+            placeholdersOffsets[slice + 1] += placeholdersOffsets[slice];
+        }
+        int charsCount = charsOffsets[slicesCount];
+        int tailLength = 0 == charsCount % 5 ? 0 : charsCount % 5 - 1;
+        byte[] result = new byte[(placeholdersOffsets[slicesCount] + charsCount / 5) * 4 + tailLength];
+        ParallelSlices.forEachSlice(pool, slicesCount, slice -> {
+            int from = slice * sliceLength;
+            int skipChars = (5 - charsOffsets[slice] % 5) % 5;
+            int targetOffset = (placeholdersOffsets[slice] + (charsOffsets[slice] + skipChars) / 5) * 4;
+            decodeSlice(source, from, Math.min(from + sliceLength, sourceLength), skipChars, result, targetOffset);
+        });
+        return result;
+    }
+
+    private static int decodedLength(String source) {
+        int result = 0;
         int paginationIdx = 0;
-        for (int idx = 0; idx < sourceBytes.length; idx++) {
-            byte nextByte = sourceBytes[idx];
-            if (0 <= Arrays.binarySearch(IGNORED_CHARS, nextByte)) {
+        for (int idx = 0; idx < source.length(); idx++) {
+            char nextChar = source.charAt(idx);
+            if (isIgnored(nextChar)) {
                 continue;
             }
-            boolean isZeroPlaceholder = 0x7A == nextByte;
+            boolean isZeroPlaceholder = 0x7A == nextChar;
             boolean isInvalidInput = (isZeroPlaceholder && 0 != paginationIdx)
-                    || (!isZeroPlaceholder && (nextByte < 0x21 || nextByte > 0x75));
+                    || (!isZeroPlaceholder && (nextChar < 0x21 || nextChar > 0x75));
             if (isInvalidInput) {
                 throw new IllegalArgumentException("Provided source string is not Base85 encoded");
             }
-            if (isZeroPlaceholder) {
-                while (paginationIdx < 5) {
-                    pagination[paginationIdx++] = CHAR_START_IDX;
-                }
-            } else {
-                pagination[paginationIdx++] = nextByte;
-            }
-            boolean lastByte = idx == sourceBytes.length - 1;
-            boolean isReadyToDecode = (pagination.length == paginationIdx) || (lastByte && 0 != paginationIdx);
-            if (isReadyToDecode) {
-                if (lastByte) {
-                    Arrays.fill(pagination, paginationIdx, pagination.length, (byte) 0x75);
+            if (isZeroPlaceholder || 5 == ++paginationIdx) {
+                result += 4;
+                paginationIdx = 0;
+            }
+        }
+        return 0 == paginationIdx ? result : result + paginationIdx - 1;
+    }
+
+    /**
+     * Skips provided count of chars that belong to partition started before the slice and decodes partitions
+     * that start inside the slice, last partition may end after the slice
+     */
+    private static void decodeSlice(String source, int from, int to, int skipChars, byte[] target, int targetOffset) {
+        int sourceLength = source.length();
+        int idx = from;
+        while (0 < skipChars && idx < sourceLength) {
+            char nextChar = source.charAt(idx++);
+            if (isIgnored(nextChar)) {
+                continue;
+            }
+            if (0x7A == nextChar) {
+                throw new IllegalArgumentException("Provided source string is not Base85 encoded");
+            }
+            skipChars--;
+        }
+        int resultIdx = targetOffset;
+        int value = 0;
+        int paginationIdx = 0;
+        for (; idx < sourceLength && (idx < to || 0 != paginationIdx); idx++) {
+            char nextChar = source.charAt(idx);
+            if (isIgnored(nextChar)) {
+                continue;
+            }
+            if (0x7A == nextChar) {
+                if (0 != paginationIdx) {
+                    throw new IllegalArgumentException("Provided source string is not Base85 encoded");
                 }
-                byte[] decodedPartition = decodePartition(pagination);
-                int writeLength = decodedPartition.length - (pagination.length - paginationIdx);
-                result.write(decodedPartition, 0, writeLength);
+                resultIdx += 4;
+                continue;
+            }
+            value = value * 85 + (nextChar - CHAR_START_IDX);
+            if (5 == ++paginationIdx) {
+                resultIdx = writePartition(value, 4, target, resultIdx);
+                value = 0;
                 paginationIdx = 0;
-                Arrays.fill(pagination, (byte) 0x00);
             }
         }
-        return result.toByteArray();
+        if (0 != paginationIdx) {
+            for (int padIdx = paginationIdx; padIdx < 5; padIdx++) {
+                value = value * 85 + 0x75 - CHAR_START_IDX;
+            }
+            writePartition(value, paginationIdx - 1, target, resultIdx);
+        }
+    }
+
+    private static boolean isIgnored(char value) {
+        return value < 0x80 && 0 <= Arrays.binarySearch(IGNORED_CHARS, (byte) value);
+    }
+
+    private static int writePartition(int value, int length, byte[] target, int targetOffset) {
+        for (int idx = 0; idx < length; idx++) {
+            target[targetOffset + idx] = (byte) (value >>> (24 - 8 * idx));
+        }
+        return targetOffset + length;
     }
 
-    private static byte[] encodePartition(byte[] pagination, int actualBytes) {
-        long unsignedInt = ((long) (pagination[0] & 0xFF) << 24)
-                | ((pagination[1] & 0xFF) << 16)
-                | ((pagination[2] & 0xFF) << 8)
-                | (pagination[3] & 0xFF);
+    private static int encodePartitions(byte[] source, int offset, int length, byte[] target, int targetOffset) {
+        int targetIdx = targetOffset;
+        int sourceEnd = offset + length;
+        for (int idx = offset; idx < sourceEnd; idx += 4) {
+            int partitionSize = Math.min(sourceEnd - idx, 4);
+            targetIdx += encodePartition(readPartition(source, idx, partitionSize), partitionSize, target, targetIdx);
+        }
+        return targetIdx - targetOffset;
+    }
 
+    private static long readPartition(byte[] source, int offset, int actualBytes) {
+        long unsignedInt = 0;
+        for (int idx = 0; idx < 4; idx++) {
+            unsignedInt = (unsignedInt << 8) | (idx < actualBytes ? source[offset + idx] & 0xFF : 0);
+        }
+        return unsignedInt;
+    }
+
+    private static int encodePartition(long unsignedInt, int actualBytes, byte[] target, int targetOffset) {
         if (0 == unsignedInt && 4 == actualBytes) {
-            return new byte[]{(char) 0x7A};
+            target[targetOffset] = 0x7A;
+            return 1;
         }
         int encodedSize = actualBytes + 1;
-        byte[] encodedPartition = new byte[encodedSize];
         for (int idx = 0; idx < encodedSize; idx++) {
-            encodedPartition[idx] = (byte) ((unsignedInt / POWERS_85[idx]) + CHAR_START_IDX);
+            target[targetOffset + idx] = (byte) ((unsignedInt / POWERS_85[idx]) + CHAR_START_IDX);
             unsignedInt %= POWERS_85[idx];
         }
-        return encodedPartition;
+        return encodedSize;
     }
 
-    private static byte[] decodePartition(byte[] partition) {
+    private static int decodePartition(byte[] partition) {
         int value = 0;
         for (int idx = 0; idx < 5; idx++) {
             value += (partition[idx] - CHAR_START_IDX) * POWERS_85[idx];
         }
-        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+        return value;
+    }
+
+    /**
+     * Streaming Base85 encoder, processes data in 4 bytes partitions and writes encoded chunks with constant memory footprint
+     *
+     * @since 0.1.4
+     */
+    public static final class Encoder {
+        private Encoder() {
+        }
+
+        /**
+         * Wraps provided {@link OutputStream}, all bytes written to the returned stream will be Base85 encoded
+         * and written to the provided stream in chunks of a few KB. {@link OutputStream#flush()} writes all complete
+         * partitions, returned stream should be closed to write last partial partition, closing it also closes provided stream.
+         *
+         * @param target {@link OutputStream} that should receive encoded ASCII bytes
+         * @return Base85 encoding {@link OutputStream}
+         * @since 0.1.4
+         */
+        public OutputStream wrap(OutputStream target) {
+            return new EncoderOutputStream(Objects.requireNonNull(target));
+        }
     }
 
-    private static int calculateEncodeBufferSize(int byteArrayLength) {
-        return byteArrayLength * 5 / 4;
+    /**
+     * Streaming Base85 decoder, reads source in chunks and processes data in 5 chars partitions with constant memory footprint
+     *
+     * @since 0.1.4
+     */
+    public static final class Decoder {
+        private Decoder() {
+        }
+
+        /**
+         * Wraps provided {@link InputStream} of Base85 encoded ASCII bytes, returned stream provides decoded bytes.
+         * Closing returned stream also closes provided stream.
+         *
+         * @param source {@link InputStream} with encoded ASCII bytes
+         * @return Base85 decoding {@link InputStream}, that throws {@link IOException} on read if source is not Base85 encoded
+         * @since 0.1.4
+         */
+        public InputStream wrap(InputStream source) {
+            return new DecoderInputStream(Objects.requireNonNull(source));
+        }
+    }
+
+    private static final class EncoderOutputStream extends FilterOutputStream {
+        private final byte[] pagination = new byte[4];
+        private final byte[] chunk = new byte[STREAM_CHUNK_LENGTH];
+        private int paginationIdx;
+        private int chunkLength;
+        private boolean closed;
+
+        private EncoderOutputStream(OutputStream target) {
+            super(target);
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            ensureOpen();
+            pagination[paginationIdx++] = (byte) value;
+            if (pagination.length == paginationIdx) {
+                writePartition();
+            }
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, source.length);
+            ensureOpen();
+            int idx = offset;
+            int end = offset + length;
+            while (0 != paginationIdx && idx < end) {
+                write(source[idx++]);
+            }
+            while (end - idx >= pagination.length) {
+                int partitions = Math.min((end - idx) / 4, (chunk.length - chunkLength) / 5);
+                if (0 == partitions) {
+                    flushChunk();
+                    continue;
+                }
+                chunkLength += encodePartitions(source, idx, partitions * 4, chunk, chunkLength);
+                idx += partitions * 4;
+            }
+            while (idx < end) {
+                pagination[paginationIdx++] = source[idx++];
+            }
+        }
+
+        /**
+         * Writes encoded chunk to target stream and flushes it, last partial partition is written on close only
+         */
+        @Override
+        public void flush() throws IOException {
+            flushChunk();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (0 != paginationIdx) {
+                writePartition();
+            }
+            super.close();
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream is closed");
+            }
+        }
+
+        private void writePartition() throws IOException {
+            if (chunk.length - chunkLength < 5) {
+                flushChunk();
+            }
+            chunkLength += encodePartition(readPartition(pagination, 0, paginationIdx), paginationIdx, chunk, chunkLength);
+            paginationIdx = 0;
+        }
+
+        private void flushChunk() throws IOException {
+            if (0 != chunkLength) {
+                out.write(chunk, 0, chunkLength);
+                chunkLength = 0;
+            }
+        }
     }
 
-    private static int calculateDecodedBufferSize(int stringLength) {
-        return stringLength * 4 / 5;
+    private static final class DecoderInputStream extends FilterInputStream {
+        private final byte[] pagination = new byte[5];
+        private final byte[] decodedPartition = new byte[4];
+        private final byte[] chunk = new byte[STREAM_CHUNK_LENGTH];
+        private int chunkIdx;
+        private int chunkLength;
+        private int decodedIdx;
+        private int decodedLength;
+        private boolean eof;
+
+        private DecoderInputStream(InputStream source) {
+            super(source);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (decodedIdx == decodedLength && !nextPartition()) {
+                return -1;
+            }
+            return decodedPartition[decodedIdx++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, target.length);
+            if (0 == length) {
+                return 0;
+            }
+            int readBytes = 0;
+            while (readBytes < length) {
+                if (decodedIdx < decodedLength) {
+                    int chunkLength = Math.min(length - readBytes, decodedLength - decodedIdx);
+                    System.arraycopy(decodedPartition, decodedIdx, target, offset + readBytes, chunkLength);
+                    decodedIdx += chunkLength;
+                    readBytes += chunkLength;
+                    continue;
+                }
+                int partitionLength = readPagination();
+                if (partitionLength < 0) {
+                    break;
+                }
+                if (length - readBytes >= partitionLength) {
+                    writePartition(decodePartition(pagination), partitionLength, target, offset + readBytes);
+                    readBytes += partitionLength;
+                } else {
+                    writePartition(decodePartition(pagination), partitionLength, decodedPartition, 0);
+                    decodedIdx = 0;
+                    decodedLength = partitionLength;
+                }
+            }
+            return 0 == readBytes ? -1 : readBytes;
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            long skipped = 0;
+            while (skipped < length && -1 != read()) {
+                skipped++;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return decodedLength - decodedIdx;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("Mark/reset is not supported");
+        }
+
+        private boolean nextPartition() throws IOException {
+            int partitionLength;
+            do {
+                partitionLength = readPagination();
+                if (partitionLength < 0) {
+                    return false;
+                }
+            } while (0 == partitionLength);
+            writePartition(decodePartition(pagination), partitionLength, decodedPartition, 0);
+            decodedIdx = 0;
+            decodedLength = partitionLength;
+            return true;
+        }
+
+        /**
+         * Reads next partition of encoded chars from source chunks to pagination, pads partial last partition
+         *
+         * @return count of bytes encoded by partition or -1 if there are no more encoded chars
+         */
+        private int readPagination() throws IOException {
+            int paginationIdx = 0;
+            while (paginationIdx < pagination.length) {
+                if (chunkIdx == chunkLength && !readChunk()) {
+                    break;
+                }
+                byte nextByte = chunk[chunkIdx++];
+                if (nextByte >= CHAR_START_IDX && nextByte <= 0x75) {
+                    pagination[paginationIdx++] = nextByte;
+                } else if (0x7A == nextByte && 0 == paginationIdx) {
+                    Arrays.fill(pagination, (byte) CHAR_START_IDX);
+                    paginationIdx = pagination.length;
+                } else if (Arrays.binarySearch(IGNORED_CHARS, nextByte) < 0) {
+                    throw new IOException("Provided source stream is not Base85 encoded");
+                }
+            }
+            if (0 == paginationIdx) {
+                return -1;
+            }
+            Arrays.fill(pagination, paginationIdx, pagination.length, (byte) 0x75);
+            return paginationIdx - 1;
+        }
+
+        private boolean readChunk() throws IOException {
+            while (!eof) {
+                int readBytes = in.read(chunk, 0, chunk.length);
+                if (-1 == readBytes) {
+                    eof = true;
+                } else if (0 != readBytes) {
+                    chunkIdx = 0;
+                    chunkLength = readBytes;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Codec implements BinaryTextCodec {
+        @Override
+        public String name() {
+            return "base85";
+        }
+
+        @Override
+        public String encode(byte[] source) {
+            return Base85.encode(source);
+        }
+
+        @Override
+        public byte[] decode(String source) {
+            return Base85.decode(source);
+        }
+
+        @Override
+        public int maxEncodedLength(int byteArrayLength) {
+            return Base85.maxEncodedLength(byteArrayLength);
+        }
+
+        @Override
+        public int maxDecodedLength(int encodedLength) {
+            return (int) Math.min(Integer.MAX_VALUE, encodedLength * 4L);
+        }
+
+        @Override
+        public int encode(ByteBuffer source, ByteBuffer target) {
+            return Base85.encode(source, target);
+        }
+
+        @Override
+        public OutputStream encodingStream(OutputStream target) {
+            return ENCODER.wrap(target);
+        }
+
+        @Override
+        public InputStream decodingStream(InputStream source) {
+            return DECODER.wrap(source);
+        }
     }
 }
@@ -0,0 +1,136 @@
+package com.hijackermax.utils.encoders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Common contract of binary-to-text codecs, implementations are stateless and thread-safe
+ *
+ * @since 0.1.4
+ */
+public interface BinaryTextCodec {
+    /**
+     * Returns name of the codec, that can be used to look it up in {@link Codecs}
+     *
+     * @return lower-case codec name
+     */
+    String name();
+
+    /**
+     * Encodes provided byte array to {@link String}
+     *
+     * @param source byte array
+     * @return encoded {@link String}
+     */
+    String encode(byte[] source);
+
+    /**
+     * Decodes provided {@link String} to byte array
+     *
+     * @param source encoded {@link String}
+     * @return decoded byte array
+     * @throws IllegalArgumentException if provided string is not encoded with this codec
+     */
+    byte[] decode(String source);
+
+    /**
+     * Calculates maximal length of encoded data for provided source length, both in chars of encoded {@link String}
+     * and in bytes of encoded data represented with {@link BinaryTextCodec#charset()}
+     *
+     * @param byteArrayLength length of source data
+     * @return maximal length of encoded data
+     */
+    int maxEncodedLength(int byteArrayLength);
+
+    /**
+     * Calculates maximal length of decoded data for provided encoded data length in chars or bytes
+     *
+     * @param encodedLength length of encoded data
+     * @return maximal length of decoded data
+     */
+    int maxDecodedLength(int encodedLength);
+
+    /**
+     * Returns {@link Charset} that is used to represent encoded data as bytes
+     *
+     * @return {@link Charset} of encoded data
+     */
+    default Charset charset() {
+        return StandardCharsets.US_ASCII;
+    }
+
+    /**
+     * Encodes remaining bytes of source {@link ByteBuffer} and puts encoded data bytes to the target {@link ByteBuffer}.
+     * Position of source buffer is moved to its limit, position of target buffer is moved by count of written bytes.
+     *
+     * @param source {@link ByteBuffer} with bytes that should be encoded
+     * @param target {@link ByteBuffer} that should receive encoded data,
+     *               must have at least {@link BinaryTextCodec#maxEncodedLength(int)} bytes remaining
+     * @return count of bytes written to the target {@link ByteBuffer}
+     * @throws BufferOverflowException if target buffer has not enough space remaining
+     */
+    default int encode(ByteBuffer source, ByteBuffer target) {
+        if (target.remaining() < maxEncodedLength(source.remaining())) {
+            throw new BufferOverflowException();
+        }
+        byte[] sourceBytes = new byte[source.remaining()];
+        source.get(sourceBytes);
+        byte[] encoded = encode(sourceBytes).getBytes(charset());
+        target.put(encoded);
+        return encoded.length;
+    }
+
+    /**
+     * Decodes remaining encoded data bytes of source {@link ByteBuffer} and puts decoded bytes to the target {@link ByteBuffer}.
+     * Position of source buffer is moved to its limit, position of target buffer is moved by count of written bytes.
+     *
+     * @param source {@link ByteBuffer} with encoded data bytes
+     * @param target {@link ByteBuffer} that should receive decoded bytes
+     * @return count of bytes written to the target {@link ByteBuffer}
+     * @throws BufferOverflowException  if target buffer has not enough space remaining, source buffer is not consumed in this case
+     * @throws IllegalArgumentException if provided data is not encoded with this codec
+     */
+    default int decode(ByteBuffer source, ByteBuffer target) {
+        byte[] sourceBytes = new byte[source.remaining()];
+        source.duplicate().get(sourceBytes);
+        byte[] decoded = decode(new String(sourceBytes, charset()));
+        if (target.remaining() < decoded.length) {
+            throw new BufferOverflowException();
+        }
+        source.position(source.limit());
+        target.put(decoded);
+        return decoded.length;
+    }
+
+    /**
+     * Wraps provided {@link OutputStream}, all bytes written to the returned stream will be encoded and written
+     * to the provided stream represented with {@link BinaryTextCodec#charset()}.
+     * Returned stream should be closed to flush encoded data, closing it also closes provided stream.
+     * Default implementation buffers all written data until close, codecs that can process data
+     * in partitions override it with constant memory implementation.
+     *
+     * @param target {@link OutputStream} that should receive encoded data
+     * @return encoding {@link OutputStream}
+     */
+    default OutputStream encodingStream(OutputStream target) {
+        return new CodecStreams.BufferingEncoderOutputStream(this, target);
+    }
+
+    /**
+     * Wraps provided {@link InputStream} with encoded data represented with {@link BinaryTextCodec#charset()},
+     * returned stream provides decoded bytes. Closing returned stream also closes provided stream.
+     * Default implementation reads and decodes all provided data on first read, codecs that can process data
+     * in partitions override it with constant memory implementation.
+     *
+     * @param source {@link InputStream} with encoded data
+     * @return decoding {@link InputStream}, that throws {@link IOException} on read if source is not encoded with this codec
+     */
+    default InputStream decodingStream(InputStream source) {
+        return new CodecStreams.BufferingDecoderInputStream(this, source);
+    }
+}
@@ -0,0 +1,117 @@
+package com.hijackermax.utils.encoders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Default buffering stream wrappers for {@link BinaryTextCodec} implementations
+ */
+final class CodecStreams {
+    private CodecStreams() {
+    }
+
+    static final class BufferingEncoderOutputStream extends FilterOutputStream {
+        private final BinaryTextCodec codec;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private boolean closed;
+
+        BufferingEncoderOutputStream(BinaryTextCodec codec, OutputStream target) {
+            super(Objects.requireNonNull(target));
+            this.codec = codec;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            ensureOpen();
+            buffer.write(value);
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) throws IOException {
+            ensureOpen();
+            buffer.write(source, offset, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (OutputStream target = out) {
+                target.write(codec.encode(buffer.toByteArray()).getBytes(codec.charset()));
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Stream is closed");
+            }
+        }
+    }
+
+    static final class BufferingDecoderInputStream extends FilterInputStream {
+        private final BinaryTextCodec codec;
+        private InputStream decoded;
+
+        BufferingDecoderInputStream(BinaryTextCodec codec, InputStream source) {
+            super(Objects.requireNonNull(source));
+            this.codec = codec;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decoded().read();
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            return decoded().read(target, offset, length);
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            return decoded().skip(length);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return decoded().available();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("Mark/reset is not supported");
+        }
+
+        private InputStream decoded() throws IOException {
+            if (null == decoded) {
+                try {
+                    decoded = new ByteArrayInputStream(codec.decode(new String(in.readAllBytes(), codec.charset())));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+            return decoded;
+        }
+    }
+}
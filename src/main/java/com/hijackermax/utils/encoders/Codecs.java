@@ -0,0 +1,113 @@
+package com.hijackermax.utils.encoders;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Registry of {@link BinaryTextCodec} singletons, contains base32, base58, base64, base85 and base122 codecs by default
+ *
+ * @since 0.1.4
+ */
+public final class Codecs {
+    private static final Map<String, BinaryTextCodec> REGISTRY = new ConcurrentHashMap<>();
+
+    /**
+     * Base64 {@link BinaryTextCodec} backed by {@link Base64}
+     */
+    public static final BinaryTextCodec BASE64 = new Base64Codec();
+
+    static {
+        Stream.of(Base32.codec(), Base58.codec(), BASE64, Base85.codec(), Base122.codec())
+                .forEach(Codecs::register);
+    }
+
+    private Codecs() {
+    }
+
+    /**
+     * Returns registered {@link BinaryTextCodec} with provided name, lookup is case-insensitive
+     *
+     * @param name codec name
+     * @return registered {@link BinaryTextCodec} instance
+     * @throws IllegalArgumentException if there is no codec registered with provided name
+     * @since 0.1.4
+     */
+    public static BinaryTextCodec forName(String name) {
+        BinaryTextCodec codec = REGISTRY.get(normalizeName(Objects.requireNonNull(name)));
+        if (null == codec) {
+            throw new IllegalArgumentException(String.format("Codec %s is not registered", name));
+        }
+        return codec;
+    }
+
+    /**
+     * Registers provided {@link BinaryTextCodec} under its name if there is no codec registered with the same name yet
+     *
+     * @param codec thread-safe {@link BinaryTextCodec} instance
+     * @return true if codec was registered, false if codec with the same name is already registered
+     * @since 0.1.4
+     */
+    public static boolean register(BinaryTextCodec codec) {
+        Objects.requireNonNull(codec);
+        return null == REGISTRY.putIfAbsent(normalizeName(codec.name()), codec);
+    }
+
+    /**
+     * Returns names of all registered codecs
+     *
+     * @return unmodifiable {@link Set} of registered codec names
+     * @since 0.1.4
+     */
+    public static Set<String> names() {
+        return Collections.unmodifiableSet(REGISTRY.keySet());
+    }
+
+    private static String normalizeName(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Base64Codec implements BinaryTextCodec {
+        @Override
+        public String name() {
+            return "base64";
+        }
+
+        @Override
+        public String encode(byte[] source) {
+            return Base64.getEncoder().encodeToString(source);
+        }
+
+        @Override
+        public byte[] decode(String source) {
+            return Base64.getDecoder().decode(source);
+        }
+
+        @Override
+        public int maxEncodedLength(int byteArrayLength) {
+            return (int) ((byteArrayLength + 2L) / 3 * 4);
+        }
+
+        @Override
+        public int maxDecodedLength(int encodedLength) {
+            return (int) ((encodedLength * 3L + 3) / 4);
+        }
+
+        @Override
+        public OutputStream encodingStream(OutputStream target) {
+            return Base64.getEncoder().wrap(target);
+        }
+
+        @Override
+        public InputStream decodingStream(InputStream source) {
+            return Base64.getDecoder().wrap(source);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.hijackermax.utils.encoders;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Helpers that split block codecs input to slices aligned to block boundaries for processing on {@link ForkJoinPool}
+ */
+final class ParallelPartitions {
+    /**
+     * Default minimal input length for parallel processing, also minimal slice length
+     */
+    static final int DEFAULT_THRESHOLD = 1 << 20;
+    private static final int SLICES_PER_THREAD = 4;
+
+    private ParallelPartitions() {
+    }
+
+    /**
+     * Calculates slice length, that is a multiple of provided block size and not less than threshold
+     */
+    static int sliceLength(int length, int blockSize, int threshold, ForkJoinPool pool) {
+        long slicesCount = Math.max(1L, (long) pool.getParallelism() * SLICES_PER_THREAD);
+        long sliceLength = Math.max(threshold, (length + slicesCount - 1) / slicesCount);
+        sliceLength = (sliceLength + blockSize - 1) / blockSize * blockSize;
+        return (int) Math.min(sliceLength, Integer.MAX_VALUE - Integer.MAX_VALUE % blockSize);
+    }
+
+    static int slicesCount(int length, int sliceLength) {
+        return (int) ((length + (long) sliceLength - 1) / sliceLength);
+    }
+}
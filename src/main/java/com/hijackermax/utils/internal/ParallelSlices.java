@@ -0,0 +1,52 @@
+package com.hijackermax.utils.internal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Internal helper that runs indexed slice tasks on {@link ForkJoinPool}, shared by parallel encoders,
+ * compression and string utilities. It is not part of supported API and can be changed or removed at any time.
+ */
+public final class ParallelSlices {
+    private ParallelSlices() {
+    }
+
+    /**
+     * Invokes provided slice task for each slice index from 0 to slices count on provided pool and waits for completion.
+     * Exception thrown by any task is rethrown to the caller, tasks do not stop each other.
+     *
+     * @param pool        {@link ForkJoinPool} that should run slice tasks
+     * @param slicesCount count of slices
+     * @param sliceTask   {@link IntConsumer} that processes slice with provided index
+     */
+    public static void forEachSlice(ForkJoinPool pool, int slicesCount, IntConsumer sliceTask) {
+        pool.invoke(new SliceAction(0, slicesCount, sliceTask));
+    }
+
+    private static final class SliceAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer sliceTask;
+
+        private SliceAction(int from, int to, IntConsumer sliceTask) {
+            this.from = from;
+            this.to = to;
+            this.sliceTask = sliceTask;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    sliceTask.accept(from);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SliceAction(from, middle, sliceTask), new SliceAction(middle, to, sliceTask));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.hijackermax.utils.io;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+
+/**
+ * {@link OutputStream} that decodes written bytes with provided {@link Charset} and appends resulting characters
+ * to provided {@link Appendable} through fixed-size buffers. Stream should be closed to decode trailing bytes,
+ * closing does not close target {@link Appendable}
+ *
+ * @since 0.1.4
+ */
+public class AppendableOutputStream extends OutputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private final Appendable target;
+    private final CharsetDecoder decoder;
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private boolean closed;
+
+    /**
+     * Creates instance of {@link AppendableOutputStream} with provided target and charset,
+     * malformed and unmappable bytes are replaced the same way {@link String#String(byte[], Charset)} does it
+     *
+     * @param target  {@link Appendable} that should receive decoded characters
+     * @param charset {@link Charset} that should be used for decoding
+     * @since 0.1.4
+     */
+    public AppendableOutputStream(Appendable target, Charset charset) {
+        this.target = Objects.requireNonNull(target);
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+        ensureOpen();
+        if (!bytes.hasRemaining()) {
+            decode(false);
+        }
+        bytes.put((byte) value);
+    }
+
+    @Override
+    public void write(byte[] source, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, source.length);
+        ensureOpen();
+        int sourceIdx = offset;
+        int sourceEnd = offset + length;
+        while (sourceIdx < sourceEnd) {
+            if (!bytes.hasRemaining()) {
+                decode(false);
+            }
+            int chunkLength = Math.min(bytes.remaining(), sourceEnd - sourceIdx);
+            bytes.put(source, sourceIdx, chunkLength);
+            sourceIdx += chunkLength;
+        }
+    }
+
+    /**
+     * Decodes all complete characters written so far and flushes target if it is {@link Flushable}
+     *
+     * @throws IOException in case of target append or flush issues
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        decode(false);
+        if (target instanceof Flushable) {
+            ((Flushable) target).flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        decode(true);
+        CoderResult result;
+        do {
+            result = decoder.flush(chars);
+            appendChars();
+        } while (result.isOverflow());
+        closed = true;
+    }
+
+    private void decode(boolean endOfInput) throws IOException {
+        bytes.flip();
+        CoderResult result;
+        do {
+            result = decoder.decode(bytes, chars, endOfInput);
+            appendChars();
+        } while (result.isOverflow());
+        bytes.compact();
+    }
+
+    private void appendChars() throws IOException {
+        chars.flip();
+        if (chars.hasRemaining()) {
+            target.append(chars);
+        }
+        chars.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hijackermax.utils.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+
+/**
+ * {@link InputStream} that provides bytes of {@link CharSequence} encoded with provided {@link Charset},
+ * source is encoded lazily through fixed-size buffer without copying it
+ *
+ * @since 0.1.4
+ */
+public class CharSequenceInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private final CharBuffer source;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+    private boolean encoded;
+    private boolean flushed;
+
+    /**
+     * Creates instance of {@link CharSequenceInputStream} with provided source and charset,
+     * malformed and unmappable characters are replaced the same way {@link String#getBytes(Charset)} does it
+     *
+     * @param source  {@link CharSequence} that should be encoded
+     * @param charset {@link Charset} that should be used for encoding
+     * @since 0.1.4
+     */
+    public CharSequenceInputStream(CharSequence source, Charset charset) {
+        this.source = CharBuffer.wrap(Objects.requireNonNull(source));
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return fillBuffer() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, target.length);
+        if (0 == length) {
+            return 0;
+        }
+        if (!fillBuffer()) {
+            return -1;
+        }
+        int readLength = Math.min(length, buffer.remaining());
+        buffer.get(target, offset, readLength);
+        return readLength;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    private boolean fillBuffer() throws IOException {
+        while (!buffer.hasRemaining() && !flushed) {
+            buffer.clear();
+            CoderResult result = CoderResult.UNDERFLOW;
+            if (!encoded) {
+                result = encoder.encode(source, buffer, true);
+                encoded = result.isUnderflow();
+            }
+            if (encoded) {
+                result = encoder.flush(buffer);
+                flushed = result.isUnderflow();
+            }
+            buffer.flip();
+            if (result.isError()) {
+                result.throwException();
+            }
+        }
+        return buffer.hasRemaining();
+    }
+}
@@ -0,0 +1,189 @@
+package com.hijackermax.utils.lang;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+/**
+ * Reusable capitalizer with precomputed words delimiters, see {@link StringUtils#capitalize(String, char...)}.
+ * Source is trimmed and lower-cased, the first code point and every code point that follows delimiter
+ * are converted to title case. BMP delimiters are kept in {@link BitSet}, ASCII sources are processed in single pass
+ * without intermediate strings and source itself is returned if it is already capitalized.
+ * Instances are immutable and thread-safe.
+ *
+ * @since 0.1.4
+ */
+public final class Capitalizer implements UnaryOperator<String> {
+    private static final int CASE_OFFSET = 'a' - 'A';
+    private static final int[] NO_SUPPLEMENTARY_DELIMITERS = new int[0];
+
+    private final BitSet delimiters;
+    private final int[] supplementaryDelimiters;
+    private final boolean hasDelimiters;
+
+    private Capitalizer(BitSet delimiters, int[] supplementaryDelimiters) {
+        this.delimiters = delimiters;
+        this.supplementaryDelimiters = supplementaryDelimiters;
+        this.hasDelimiters = !delimiters.isEmpty() || 0 != supplementaryDelimiters.length;
+    }
+
+    /**
+     * Builds capitalizer for provided words delimiters, surrogate pairs are treated as supplementary code points
+     *
+     * @param delimiters the words delimiters, if null or empty {@link #apply(String)} returns non-blank sources as is
+     * @return {@link Capitalizer} for provided delimiters
+     * @since 0.1.4
+     */
+    public static Capitalizer of(char... delimiters) {
+        if (null == delimiters || 0 == delimiters.length) {
+            return new Capitalizer(new BitSet(0), NO_SUPPLEMENTARY_DELIMITERS);
+        }
+        BitSet bmpDelimiters = new BitSet();
+        int[] supplementary = new int[delimiters.length];
+        int supplementaryCount = 0;
+        for (int idx = 0; idx < delimiters.length; idx++) {
+            int codePoint = Character.codePointAt(delimiters, idx);
+            if (Character.isBmpCodePoint(codePoint)) {
+                bmpDelimiters.set(codePoint);
+            } else {
+                supplementary[supplementaryCount++] = codePoint;
+            }
+        }
+        int[] supplementaryDelimiters = 0 == supplementaryCount ? NO_SUPPLEMENTARY_DELIMITERS
+                : Arrays.stream(supplementary, 0, supplementaryCount).sorted().distinct().toArray();
+        return new Capitalizer(bmpDelimiters, supplementaryDelimiters);
+    }
+
+    /**
+     * Returns capitalized variant of provided {@link String}
+     *
+     * @param source the value to capitalize
+     * @return capitalized string, source itself if it is already capitalized or capitalizer has no delimiters,
+     * or empty string if null or blank string is provided
+     * @since 0.1.4
+     */
+    @Override
+    public String apply(String source) {
+        return capitalize(source, isAsciiCaseLocale(Locale.getDefault()));
+    }
+
+    /**
+     * Capitalizes each provided {@link String}, default locale is resolved once for the whole batch
+     *
+     * @param sources {@link Collection} of {@link String} that should be capitalized
+     * @return {@link List} of capitalized {@link String} in sources order, empty {@link String} for blank or null source
+     * @since 0.1.4
+     */
+    public List<String> capitalizeAll(Collection<String> sources) {
+        boolean asciiCaseLocale = isAsciiCaseLocale(Locale.getDefault());
+        String[] results = sources.toArray(new String[0]);
+        for (int idx = 0; idx < results.length; idx++) {
+            results[idx] = capitalize(results[idx], asciiCaseLocale);
+        }
+        return Arrays.asList(results);
+    }
+
+    private String capitalize(String source, boolean asciiCaseLocale) {
+        if (StringUtils.isBlank(source)) {
+            return StringUtils.EMPTY;
+        }
+        if (!hasDelimiters) {
+            return source;
+        }
+        if (asciiCaseLocale) {
+            String result = capitalizeAscii(source);
+            if (null != result) {
+                return result;
+            }
+        }
+        return capitalizeCodePoints(source);
+    }
+
+    /**
+     * Single pass over trimmed ASCII source, result array is allocated on the first changed char only
+     *
+     * @return capitalized string or null if source contains non-ASCII chars
+     */
+    private String capitalizeAscii(String source) {
+        int start = 0;
+        int end = source.length();
+        while (start < end && source.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && source.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        char[] result = null;
+        boolean capitalizeNext = true;
+        for (int idx = start; idx < end; idx++) {
+            char character = source.charAt(idx);
+            if (character >= 0x80) {
+                return null;
+            }
+            char value = character >= 'A' && character <= 'Z' ? (char) (character + CASE_OFFSET) : character;
+            if (delimiters.get(value)) {
+                capitalizeNext = true;
+            } else if (capitalizeNext) {
+                value = value >= 'a' && value <= 'z' ? (char) (value - CASE_OFFSET) : value;
+                capitalizeNext = false;
+            }
+            if (value != character && null == result) {
+                result = new char[end - start];
+                source.getChars(start, idx, result, 0);
+            }
+            if (null != result) {
+                result[idx - start] = value;
+            }
+        }
+        if (null != result) {
+            return new String(result);
+        }
+        return 0 == start && source.length() == end ? source : source.substring(start, end);
+    }
+
+    private String capitalizeCodePoints(String source) {
+        String lowerCaseSource = source.trim().toLowerCase();
+        int sourceLength = lowerCaseSource.length();
+        int[] resultValues = new int[sourceLength];
+        int resultEndIdx = 0;
+        boolean capitalizeNext = false;
+        for (int idx = 0; idx < sourceLength; ) {
+            int charAt = lowerCaseSource.codePointAt(idx);
+            if (isDelimiter(charAt)) {
+                capitalizeNext = true;
+                idx += Character.charCount(charAt);
+                resultValues[resultEndIdx++] = charAt;
+                continue;
+            }
+            if (capitalizeNext || 0 == idx) {
+                int newValue = Character.toTitleCase(charAt);
+                idx += Character.charCount(newValue);
+                resultValues[resultEndIdx++] = newValue;
+                capitalizeNext = false;
+                continue;
+            }
+            idx += Character.charCount(charAt);
+            resultValues[resultEndIdx++] = charAt;
+        }
+        return new String(resultValues, 0, resultEndIdx);
+    }
+
+    private boolean isDelimiter(int codePoint) {
+        if (Character.isBmpCodePoint(codePoint)) {
+            return delimiters.get(codePoint);
+        }
+        return 0 != supplementaryDelimiters.length && Arrays.binarySearch(supplementaryDelimiters, codePoint) >= 0;
+    }
+
+    /**
+     * Checks if {@link String#toLowerCase()} maps ASCII chars to ASCII lower case in provided locale,
+     * Turkish and Azerbaijani map 'I' to dotless 'i'
+     */
+    private static boolean isAsciiCaseLocale(Locale locale) {
+        String language = locale.getLanguage();
+        return !"tr".equals(language) && !"az".equals(language);
+    }
+}
@@ -0,0 +1,360 @@
+package com.hijackermax.utils.lang;
+
+import java.io.IOException;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled named format template, see {@link StringUtils#namedFormat format description can be found here}.
+ * Template is parsed once to literal and token segments, rendering is a single pass over segments
+ * into one pre-sized {@link StringBuilder}. Instances are immutable and thread-safe.
+ *
+ * @since 0.1.4
+ */
+public final class NamedTemplate {
+    static final Pattern TOKEN_PATTERN = Pattern.compile("(?iu)(?:\\$\\{(?:(\\w+)(?:\\?`([^``]*|-|[^`]+[\\p{Alnum}\\p{IsAlnum}\\p{Punct}\\p{IsPunct}']+[\\s]?[^`]+)`)?(%[-#+ 0,(]*(?:\\w*\\.\\d+)?\\w+)?)\\})");
+
+    /**
+     * Maximal count of templates cached by {@link #cached(String)}
+     */
+    public static final int MAX_CACHE_SIZE = 1024;
+
+    private static final Map<String, NamedTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+    private static final double[] POWERS_OF_TEN = {1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    private static final double MAX_FIXED_SCALED = 1e9;
+    private static final double FIXED_HALF_MARGIN = 1e-6;
+
+    private final String template;
+    private final String[] literals;
+    private final Token[] tokens;
+    private final Set<String> keys;
+    private final int estimatedLength;
+
+    private NamedTemplate(String template, List<String> literals, List<Token> tokens) {
+        this.template = template;
+        this.literals = literals.toArray(new String[0]);
+        this.tokens = tokens.toArray(new Token[0]);
+        Set<String> tokenKeys = new LinkedHashSet<>();
+        int literalsLength = 0;
+        for (String literal : this.literals) {
+            literalsLength += literal.length();
+        }
+        for (Token token : this.tokens) {
+            tokenKeys.add(token.key);
+        }
+        this.keys = Collections.unmodifiableSet(tokenKeys);
+        this.estimatedLength = literalsLength + this.tokens.length * ESTIMATED_VALUE_LENGTH;
+    }
+
+    /**
+     * Parses provided template to literal and token segments
+     *
+     * @param template named template, see {@link StringUtils#namedFormat format description can be found here}
+     * @return compiled {@link NamedTemplate}
+     * @throws NullPointerException if template is null
+     * @since 0.1.4
+     */
+    public static NamedTemplate compile(String template) {
+        Objects.requireNonNull(template);
+        List<String> literals = new ArrayList<>();
+        List<Token> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_PATTERN.matcher(template);
+        int position = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(position, matcher.start()));
+            tokens.add(new Token(matcher.group(0), matcher.group(1), matcher.group(2), matcher.group(3)));
+            position = matcher.end();
+        }
+        literals.add(template.substring(position));
+        return new NamedTemplate(template, literals, tokens);
+    }
+
+    /**
+     * Returns compiled template from bounded cache or compiles and caches it. When cache reaches
+     * {@link #MAX_CACHE_SIZE} templates it is cleared, so rarely used templates do not stay forever.
+     *
+     * @param template named template, see {@link StringUtils#namedFormat format description can be found here}
+     * @return compiled {@link NamedTemplate}
+     * @throws NullPointerException if template is null
+     * @since 0.1.4
+     */
+    public static NamedTemplate cached(String template) {
+        NamedTemplate compiled = CACHE.get(Objects.requireNonNull(template));
+        if (null != compiled) {
+            return compiled;
+        }
+        compiled = compile(template);
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.putIfAbsent(template, compiled);
+        return compiled;
+    }
+
+    /**
+     * Renders template with provided values. Tokens with missing or null values are replaced with their default values,
+     * tokens without default values are kept as is.
+     *
+     * @param values {@link Map} of values that should replace tokens, null is treated as empty map
+     * @return rendered {@link String}
+     * @throws java.util.IllegalFormatException if token format is not compatible with provided value
+     * @since 0.1.4
+     */
+    public String render(Map<String, ?> values) {
+        if (0 == tokens.length) {
+            return template;
+        }
+        StringBuilder target = new StringBuilder(estimatedLength);
+        appendTo(target, values);
+        return target.toString();
+    }
+
+    /**
+     * Renders template with provided values and appends result to provided {@link Appendable}.
+     * {@link StringBuilder} targets receive segments directly, other targets receive rendered text with single append.
+     *
+     * @param target {@link Appendable} that should receive rendered text
+     * @param values {@link Map} of values that should replace tokens, null is treated as empty map
+     * @throws IOException                      in case of problems during appending to target
+     * @throws java.util.IllegalFormatException if token format is not compatible with provided value
+     * @since 0.1.4
+     */
+    public void renderTo(Appendable target, Map<String, ?> values) throws IOException {
+        Objects.requireNonNull(target);
+        if (target instanceof StringBuilder) {
+            StringBuilder builder = (StringBuilder) target;
+            builder.ensureCapacity(builder.length() + estimatedLength);
+            appendTo(builder, values);
+        } else {
+            target.append(render(values));
+        }
+    }
+
+    /**
+     * Returns keys of all template tokens
+     *
+     * @return unmodifiable {@link Set} of token keys in order of appearance
+     * @since 0.1.4
+     */
+    public Set<String> keys() {
+        return keys;
+    }
+
+    /**
+     * Returns source template
+     *
+     * @return source template {@link String}
+     * @since 0.1.4
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private void appendTo(StringBuilder target, Map<String, ?> values) {
+        target.append(literals[0]);
+        for (int idx = 0; idx < tokens.length; idx++) {
+            tokens[idx].appendTo(target, null == values ? null : values.get(tokens[idx].key));
+            target.append(literals[idx + 1]);
+        }
+    }
+
+    /**
+     * Resolves format specifier to renderer, common specifiers are rendered without {@link Formatter}
+     * if result is the same as {@link String#format(String, Object...)} result
+     */
+    private static ValueRenderer renderer(String format) {
+        if (null == format) {
+            return StringBuilder::append;
+        }
+        switch (format) {
+            case "%s":
+                return (target, value) -> {
+                    if (value instanceof Formattable) {
+                        appendFormatted(target, format, value);
+                    } else {
+                        target.append(value);
+                    }
+                };
+            case "%d":
+                return (target, value) -> {
+                    if (isIntegral(value) && FormatSymbols.current().asciiDigits) {
+                        target.append(((Number) value).longValue());
+                    } else {
+                        appendFormatted(target, format, value);
+                    }
+                };
+            case "%x":
+                return (target, value) -> {
+                    if (value instanceof Integer) {
+                        target.append(Integer.toHexString((Integer) value));
+                    } else if (value instanceof Long) {
+                        target.append(Long.toHexString((Long) value));
+                    } else {
+                        appendFormatted(target, format, value);
+                    }
+                };
+            default:
+                break;
+        }
+        int number = parseNumber(format, 2, format.length() - 1);
+        if (format.startsWith("%0") && format.endsWith("d") && number > 0) {
+            return (target, value) -> {
+                if (isIntegral(value) && FormatSymbols.current().asciiDigits) {
+                    appendZeroPadded(target, ((Number) value).longValue(), number);
+                } else {
+                    appendFormatted(target, format, value);
+                }
+            };
+        }
+        if (format.startsWith("%.") && format.endsWith("f") && number >= 0 && number < POWERS_OF_TEN.length) {
+            return (target, value) -> {
+                if (!((value instanceof Double || value instanceof Float) && FormatSymbols.current().asciiDecimal
+                        && appendFixed(target, ((Number) value).doubleValue(), number))) {
+                    appendFormatted(target, format, value);
+                }
+            };
+        }
+        return (target, value) -> appendFormatted(target, format, value);
+    }
+
+    private static void appendFormatted(StringBuilder target, String format, Object value) {
+        new Formatter(target).format(format, value);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private static void appendZeroPadded(StringBuilder target, long value, int width) {
+        String digits = Long.toString(value);
+        int start = 0;
+        if (value < 0) {
+            target.append('-');
+            start = 1;
+        }
+        for (int length = digits.length(); length < width; length++) {
+            target.append('0');
+        }
+        target.append(digits, start, digits.length());
+    }
+
+    /**
+     * Appends value rounded half up to provided count of fraction digits, if rounding is unambiguous.
+     * Values whose scaled fraction is too close to half are rejected, because {@link Formatter} rounds
+     * shortest decimal representation of value instead of its exact binary value.
+     */
+    private static boolean appendFixed(StringBuilder target, double value, int precision) {
+        double scaled = Math.abs(value) * POWERS_OF_TEN[precision];
+        if (!(scaled < MAX_FIXED_SCALED)) {
+            return false;
+        }
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) < FIXED_HALF_MARGIN) {
+            return false;
+        }
+        long rounded = (long) floor + (fraction > 0.5 ? 1 : 0);
+        long divisor = (long) POWERS_OF_TEN[precision];
+        if (Double.compare(value, 0.0) < 0) {
+            target.append('-');
+        }
+        target.append(rounded / divisor);
+        if (precision > 0) {
+            target.append('.');
+            String fractionDigits = Long.toString(rounded % divisor);
+            for (int length = fractionDigits.length(); length < precision; length++) {
+                target.append('0');
+            }
+            target.append(fractionDigits);
+        }
+        return true;
+    }
+
+    private static int parseNumber(String source, int from, int to) {
+        if (from >= to || to - from > 4) {
+            return -1;
+        }
+        int number = 0;
+        for (int idx = from; idx < to; idx++) {
+            char character = source.charAt(idx);
+            if (character < '0' || character > '9') {
+                return -1;
+            }
+            number = number * 10 + character - '0';
+        }
+        return number;
+    }
+
+    @FunctionalInterface
+    private interface ValueRenderer {
+        void append(StringBuilder target, Object value);
+    }
+
+    /**
+     * Digits and decimal separator of default format locale, resolved once per locale
+     */
+    private static final class FormatSymbols {
+        private static volatile FormatSymbols current = new FormatSymbols(Locale.getDefault(Locale.Category.FORMAT));
+
+        private final Locale locale;
+        private final boolean asciiDigits;
+        private final boolean asciiDecimal;
+
+        private FormatSymbols(Locale locale) {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            this.locale = locale;
+            this.asciiDigits = '0' == symbols.getZeroDigit();
+            this.asciiDecimal = asciiDigits && '.' == symbols.getDecimalSeparator();
+        }
+
+        private static FormatSymbols current() {
+            Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+            FormatSymbols symbols = current;
+            if (symbols.locale != locale) {
+                symbols = new FormatSymbols(locale);
+                current = symbols;
+            }
+            return symbols;
+        }
+    }
+
+    private static final class Token {
+        private final String source;
+        private final String key;
+        private final String defaultValue;
+        private final ValueRenderer renderer;
+
+        private Token(String source, String key, String defaultValue, String format) {
+            this.source = source;
+            this.key = key;
+            this.defaultValue = defaultValue;
+            this.renderer = renderer(format);
+        }
+
+        private void appendTo(StringBuilder target, Object value) {
+            if (null == value) {
+                target.append(null == defaultValue ? source : defaultValue);
+            } else {
+                renderer.append(target, value);
+            }
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package com.hijackermax.utils.lang;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import com.hijackermax.utils.compression.CompressionAlgorithm;
+import com.hijackermax.utils.compression.CompressionAlgorithms;
+import com.hijackermax.utils.compression.DecompressionLimitException;
+import com.hijackermax.utils.compression.DecompressionLimits;
+import com.hijackermax.utils.compression.DeflaterPool;
+import com.hijackermax.utils.compression.Gzip;
+import com.hijackermax.utils.compression.InflaterPool;
+import com.hijackermax.utils.encoders.BinaryTextCodec;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Base64;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -18,6 +30,8 @@ import static java.util.Optional.ofNullable;
  * Set of utility methods that can help to work with objects
  */
 public final class ObjectUtils {
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
     private ObjectUtils() {
     }
 
@@ -73,14 +87,94 @@ public final class ObjectUtils {
      * @since 0.0.6
      */
     public static String compress(byte[] source, Function<byte[], String> encoder) throws IOException {
+        return compress(source, encoder, CompressionAlgorithms.GZIP);
+    }
+
+    /**
+     * Compresses source byte array using GZIP and encodes it with provided {@link BinaryTextCodec}
+     *
+     * @param source byte array that needs to be compressed
+     * @param codec  {@link BinaryTextCodec} that should be used for encoding
+     * @return compressed with GZIP and encoded with provided codec byte array or empty {@link String} if source is null
+     * @throws IOException in case of problems during source byte array compression
+     * @since 0.1.4
+     */
+    public static String compress(byte[] source, BinaryTextCodec codec) throws IOException {
+        return compress(source, Objects.requireNonNull(codec)::encode);
+    }
+
+    /**
+     * Compresses source byte array using GZIP with deflater from provided {@link DeflaterPool}
+     * and encodes it with provided {@link BinaryTextCodec}
+     *
+     * @param source       byte array that needs to be compressed
+     * @param codec        {@link BinaryTextCodec} that should be used for encoding
+     * @param deflaterPool {@link DeflaterPool} that provides deflater with required compression level and strategy
+     * @return compressed with GZIP and encoded with provided codec byte array or empty {@link String} if source is null
+     * @throws IOException in case of problems during source byte array compression
+     * @since 0.1.4
+     */
+    public static String compress(byte[] source, BinaryTextCodec codec, DeflaterPool deflaterPool) throws IOException {
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(deflaterPool);
         if (Objects.isNull(source)) {
             return StringUtils.EMPTY;
         }
-        try (var outputStream = new ByteArrayOutputStream(); var gzOutputStream = new GZIPOutputStream(outputStream)) {
-            gzOutputStream.write(source);
-            gzOutputStream.finish();
-            return encoder.apply(outputStream.toByteArray());
+        return codec.encode(Gzip.compress(source, deflaterPool));
+    }
+
+    /**
+     * Compresses source byte array using provided {@link CompressionAlgorithm} and encodes it with provided {@link BinaryTextCodec}.
+     * Compressed data starts with algorithm format tag, so it can be decompressed with any decompress method.
+     *
+     * @param source    byte array that needs to be compressed
+     * @param codec     {@link BinaryTextCodec} that should be used for encoding
+     * @param algorithm {@link CompressionAlgorithm} that should be used for compression
+     * @return compressed with provided algorithm and encoded with provided codec byte array or empty {@link String} if source is null
+     * @throws IOException in case of problems during source byte array compression
+     * @since 0.1.4
+     */
+    public static String compress(byte[] source, BinaryTextCodec codec, CompressionAlgorithm algorithm) throws IOException {
+        return compress(source, Objects.requireNonNull(codec)::encode, Objects.requireNonNull(algorithm));
+    }
+
+    /**
+     * Compresses source byte array using provided {@link CompressionAlgorithm} and encodes it with provided encoder.
+     * Compressed data starts with algorithm format tag, so it can be decompressed with any decompress method.
+     *
+     * @param source    byte array that needs to be compressed
+     * @param encoder   byte array to {@link String} encoder
+     * @param algorithm {@link CompressionAlgorithm} that should be used for compression
+     * @return compressed with provided algorithm and encoded with provided encoder byte array or empty {@link String} if source is null
+     * @since 0.1.4
+     */
+    public static String compress(byte[] source, Function<byte[], String> encoder, CompressionAlgorithm algorithm) {
+        Objects.requireNonNull(encoder);
+        Objects.requireNonNull(algorithm);
+        if (Objects.isNull(source)) {
+            return StringUtils.EMPTY;
         }
+        return encoder.apply(algorithm.compress(source));
+    }
+
+    /**
+     * Compresses source byte array to single GZIP member using provided {@link ForkJoinPool}, source is split to blocks
+     * that are compressed concurrently, and encodes it with provided {@link BinaryTextCodec}
+     *
+     * @param source byte array that needs to be compressed
+     * @param codec  {@link BinaryTextCodec} that should be used for encoding
+     * @param pool   {@link ForkJoinPool} that should be used for compression
+     * @return compressed with GZIP and encoded with provided codec byte array or empty {@link String} if source is null
+     * @see Gzip#compressParallel(byte[], ForkJoinPool)
+     * @since 0.1.4
+     */
+    public static String compressParallel(byte[] source, BinaryTextCodec codec, ForkJoinPool pool) {
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(pool);
+        if (Objects.isNull(source)) {
+            return StringUtils.EMPTY;
+        }
+        return codec.encode(Gzip.compressParallel(source, pool));
     }
 
     /**
@@ -97,10 +191,11 @@ public final class ObjectUtils {
 
     /**
      * Decodes source {@link String} that represents byte array using provided decoder and decompresses it with GZIP
+     * or other registered {@link CompressionAlgorithm} detected by format tag
      *
      * @param source  {@link String} that needs to be decompressed
      * @param decoder {@link String} to byte array decoder
-     * @return decoded with provided decoder and decompressed with GZIP byte array or empty byte array if source is empty or null
+     * @return decoded with provided decoder and decompressed byte array or empty byte array if source is empty or null
      * @throws IOException in case of problems during source byte array decompression
      * @since 0.0.6
      */
@@ -108,10 +203,119 @@ public final class ObjectUtils {
         if (isEmpty(source)) {
             return new byte[0];
         }
-        byte[] bytes = decoder.apply(source);
-        try (var byteArrayInputStream = new ByteArrayInputStream(bytes);
-             var inputStream = new GZIPInputStream(byteArrayInputStream)) {
-            return inputStream.readAllBytes();
+        return CompressionAlgorithms.decompress(decoder.apply(source));
+    }
+
+    /**
+     * Decodes source {@link String} that represents byte array using provided decoder and decompresses it with GZIP
+     * or other registered {@link CompressionAlgorithm} detected by format tag. Decompression is aborted as soon as
+     * decompressed data exceeds provided maximal length.
+     *
+     * @param source         {@link String} that needs to be decompressed
+     * @param decoder        {@link String} to byte array decoder
+     * @param maxOutputBytes maximal decompressed length in bytes
+     * @return decoded with provided decoder and decompressed byte array or empty byte array if source is empty or null
+     * @throws DecompressionLimitException if decompressed data exceeds maximal length
+     * @throws IOException                 in case of problems during source byte array decompression
+     * @throws IllegalArgumentException    if maximal length is negative
+     * @since 0.1.4
+     */
+    public static byte[] decompress(String source, Function<String, byte[]> decoder, long maxOutputBytes) throws IOException {
+        return decompress(source, decoder, DecompressionLimits.ofMaxOutputBytes(maxOutputBytes));
+    }
+
+    /**
+     * Decodes source {@link String} that represents byte array using provided decoder and decompresses it with GZIP
+     * or other registered {@link CompressionAlgorithm} detected by format tag. Decompression is aborted as soon as
+     * decompressed data exceeds maximal length or maximal expansion ratio of provided {@link DecompressionLimits}.
+     *
+     * @param source  {@link String} that needs to be decompressed
+     * @param decoder {@link String} to byte array decoder
+     * @param limits  {@link DecompressionLimits} of decompressed data
+     * @return decoded with provided decoder and decompressed byte array or empty byte array if source is empty or null
+     * @throws DecompressionLimitException if decompressed data exceeds limits
+     * @throws IOException                 in case of problems during source byte array decompression
+     * @since 0.1.4
+     */
+    public static byte[] decompress(String source, Function<String, byte[]> decoder, DecompressionLimits limits) throws IOException {
+        Objects.requireNonNull(limits);
+        if (isEmpty(source)) {
+            return new byte[0];
+        }
+        return CompressionAlgorithms.decompress(decoder.apply(source), limits);
+    }
+
+    /**
+     * Decodes source {@link String} that represents byte array using provided {@link BinaryTextCodec} and decompresses it
+     * with GZIP or other registered {@link CompressionAlgorithm} detected by format tag
+     *
+     * @param source {@link String} that needs to be decompressed
+     * @param codec  {@link BinaryTextCodec} that should be used for decoding
+     * @return decoded with provided codec and decompressed byte array or empty byte array if source is empty or null
+     * @throws IOException in case of problems during source byte array decompression
+     * @since 0.1.4
+     */
+    public static byte[] decompress(String source, BinaryTextCodec codec) throws IOException {
+        return decompress(source, Objects.requireNonNull(codec)::decode);
+    }
+
+    /**
+     * Decodes source {@link String} that represents byte array using provided {@link BinaryTextCodec}
+     * and decompresses it with GZIP using inflater from provided {@link InflaterPool}
+     *
+     * @param source       {@link String} that needs to be decompressed
+     * @param codec        {@link BinaryTextCodec} that should be used for decoding
+     * @param inflaterPool {@link InflaterPool} that provides inflater
+     * @return decoded with provided codec and decompressed with GZIP byte array or empty byte array if source is empty or null
+     * @throws IOException in case of problems during source byte array decompression
+     * @since 0.1.4
+     */
+    public static byte[] decompress(String source, BinaryTextCodec codec, InflaterPool inflaterPool) throws IOException {
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(inflaterPool);
+        if (isEmpty(source)) {
+            return new byte[0];
+        }
+        return Gzip.decompress(codec.decode(source), inflaterPool);
+    }
+
+    /**
+     * Compresses all bytes of source {@link InputStream} using GZIP, encodes them with provided {@link BinaryTextCodec}
+     * and writes encoded data to target {@link OutputStream}. Data is streamed through fixed-size buffers,
+     * memory footprint does not depend on source size if codec supports streaming encoding.
+     * Neither source nor target streams are closed.
+     *
+     * @param source {@link InputStream} with data that needs to be compressed
+     * @param target {@link OutputStream} that should receive compressed and encoded data
+     * @param codec  {@link BinaryTextCodec} that should be used for encoding
+     * @throws IOException in case of problems during source reading, compression or target writing
+     * @since 0.1.4
+     */
+    public static void compressTo(InputStream source, OutputStream target, BinaryTextCodec codec) throws IOException {
+        Objects.requireNonNull(source);
+        OutputStream encodingStream = codec.encodingStream(new NonClosingOutputStream(target));
+        try (var gzOutputStream = new GZIPOutputStream(encodingStream, STREAM_BUFFER_SIZE)) {
+            source.transferTo(gzOutputStream);
+        }
+    }
+
+    /**
+     * Decodes all data of source {@link InputStream} with provided {@link BinaryTextCodec}, decompresses it with GZIP
+     * and writes decompressed bytes to target {@link OutputStream}. Data is streamed through fixed-size buffers,
+     * memory footprint does not depend on source size if codec supports streaming decoding.
+     * Neither source nor target streams are closed.
+     *
+     * @param source {@link InputStream} with compressed and encoded data
+     * @param target {@link OutputStream} that should receive decompressed data
+     * @param codec  {@link BinaryTextCodec} that should be used for decoding
+     * @throws IOException in case of problems during source reading, decompression or target writing
+     * @since 0.1.4
+     */
+    public static void decompressFrom(InputStream source, OutputStream target, BinaryTextCodec codec) throws IOException {
+        Objects.requireNonNull(target);
+        InputStream decodingStream = codec.decodingStream(new NonClosingInputStream(source));
+        try (var gzInputStream = new GZIPInputStream(decodingStream, STREAM_BUFFER_SIZE)) {
+            gzInputStream.transferTo(target);
         }
     }
 
@@ -141,4 +345,30 @@ public final class ObjectUtils {
             valueConsumer.accept(value);
         }
     }
+
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(OutputStream target) {
+            super(Objects.requireNonNull(target));
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) throws IOException {
+            out.write(source, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class NonClosingInputStream extends FilterInputStream {
+        private NonClosingInputStream(InputStream source) {
+            super(Objects.requireNonNull(source));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
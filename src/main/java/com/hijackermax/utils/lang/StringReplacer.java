@@ -0,0 +1,208 @@
+package com.hijackermax.utils.lang;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Compiled multi-pattern replacer backed by Aho-Corasick automaton. All patterns are replaced in single
+ * left-to-right pass: at each position the leftmost match is selected, if several patterns match at the same
+ * position the longest one wins, replaced text is not scanned again. Result does not depend on
+ * replacements map iteration order. Instances are immutable and thread-safe.
+ *
+ * @since 0.1.4
+ */
+public final class StringReplacer implements UnaryOperator<String> {
+    private static final int ROOT = 0;
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[] depths;
+    private final int[] matchNodes;
+    private final String[] replacements;
+
+    private StringReplacer(char[][] labels, int[][] targets, int[] failures, int[] depths, int[] matchNodes,
+                           String[] replacements) {
+        this.labels = labels;
+        this.targets = targets;
+        this.failures = failures;
+        this.depths = depths;
+        this.matchNodes = matchNodes;
+        this.replacements = replacements;
+    }
+
+    /**
+     * Builds replacer for provided replacements, empty keys are ignored
+     *
+     * @param replacements {@link Map} which contains {@link CharSequence} that should be replaced as key,
+     *                     and {@link CharSequence} that should be used as replacement as value, can be null or empty
+     * @return compiled {@link StringReplacer}
+     * @throws NullPointerException if any key or value is null
+     * @since 0.1.4
+     */
+    public static StringReplacer compile(Map<? extends CharSequence, ? extends CharSequence> replacements) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<String> nodeReplacements = new ArrayList<>();
+        List<Integer> nodeDepths = new ArrayList<>();
+        children.add(new TreeMap<>());
+        nodeReplacements.add(null);
+        nodeDepths.add(0);
+        if (null != replacements) {
+            for (Map.Entry<? extends CharSequence, ? extends CharSequence> entry : replacements.entrySet()) {
+                CharSequence pattern = Objects.requireNonNull(entry.getKey(), "Replaced sequence cannot be null");
+                String replacement = Objects.requireNonNull(entry.getValue(), "Replacement cannot be null").toString();
+                if (0 == pattern.length()) {
+                    continue;
+                }
+                int node = ROOT;
+                for (int idx = 0; idx < pattern.length(); idx++) {
+                    Integer child = children.get(node).get(pattern.charAt(idx));
+                    if (null == child) {
+                        child = children.size();
+                        children.get(node).put(pattern.charAt(idx), child);
+                        children.add(new TreeMap<>());
+                        nodeReplacements.add(null);
+                        nodeDepths.add(idx + 1);
+                    }
+                    node = child;
+                }
+                nodeReplacements.set(node, replacement);
+            }
+        }
+        int nodesCount = children.size();
+        char[][] labels = new char[nodesCount][];
+        int[][] targets = new int[nodesCount][];
+        int[] depths = new int[nodesCount];
+        String[] replacementsArray = nodeReplacements.toArray(new String[0]);
+        for (int node = 0; node < nodesCount; node++) {
+            TreeMap<Character, Integer> nodeChildren = children.get(node);
+            depths[node] = nodeDepths.get(node);
+            if (nodeChildren.isEmpty()) {
+                labels[node] = NO_LABELS;
+                targets[node] = NO_TARGETS;
+                continue;
+            }
+            labels[node] = new char[nodeChildren.size()];
+            targets[node] = new int[nodeChildren.size()];
+            int position = 0;
+            for (Map.Entry<Character, Integer> child : nodeChildren.entrySet()) {
+                labels[node][position] = child.getKey();
+                targets[node][position++] = child.getValue();
+            }
+        }
+        int[] failures = new int[nodesCount];
+        int[] matchNodes = new int[nodesCount];
+        Arrays.fill(matchNodes, -1);
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            if (null != replacementsArray[node]) {
+                matchNodes[node] = node;
+            } else if (ROOT != node) {
+                matchNodes[node] = matchNodes[failures[node]];
+            }
+            for (int idx = 0; idx < labels[node].length; idx++) {
+                int child = targets[node][idx];
+                if (ROOT != node) {
+                    int failure = failures[node];
+                    int next;
+                    while ((next = child(labels, targets, failure, labels[node][idx])) < 0 && ROOT != failure) {
+                        failure = failures[failure];
+                    }
+                    failures[child] = Math.max(next, ROOT);
+                }
+                queue.add(child);
+            }
+        }
+        return new StringReplacer(labels, targets, failures, depths, matchNodes, replacementsArray);
+    }
+
+    /**
+     * Replaces all matches in provided source
+     *
+     * @param source {@link String} that should be processed
+     * @return processed {@link String}, source itself if there are no matches, or empty string if source is empty or null
+     * @since 0.1.4
+     */
+    @Override
+    public String apply(String source) {
+        if (StringUtils.isEmpty(source)) {
+            return StringUtils.EMPTY;
+        }
+        StringBuilder target = null;
+        int length = source.length();
+        int copied = 0;
+        int position = 0;
+        while (position < length) {
+            int node = ROOT;
+            int bestStart = -1;
+            int bestNode = -1;
+            int idx = position;
+            for (; idx < length; idx++) {
+                node = next(node, source.charAt(idx));
+                if (bestNode >= 0 && idx + 1 - depths[node] > bestStart) {
+                    break;
+                }
+                int matchNode = matchNodes[node];
+                if (matchNode >= 0) {
+                    int start = idx + 1 - depths[matchNode];
+                    if (bestNode < 0 || start <= bestStart) {
+                        bestStart = start;
+                        bestNode = matchNode;
+                    }
+                }
+            }
+            if (bestNode < 0) {
+                break;
+            }
+            if (null == target) {
+                target = new StringBuilder(length + 16);
+            }
+            target.append(source, copied, bestStart).append(replacements[bestNode]);
+            position = bestStart + depths[bestNode];
+            copied = position;
+        }
+        if (null == target) {
+            return source;
+        }
+        return target.append(source, copied, length).toString();
+    }
+
+    private int next(int node, char character) {
+        while (true) {
+            int child = child(labels, targets, node, character);
+            if (child >= 0) {
+                return child;
+            }
+            if (ROOT == node) {
+                return ROOT;
+            }
+            node = failures[node];
+        }
+    }
+
+    private static int child(char[][] labels, int[][] targets, int node, char character) {
+        char[] nodeLabels = labels[node];
+        int index = nodeLabels.length < 8 ? linearSearch(nodeLabels, character) : Arrays.binarySearch(nodeLabels, character);
+        return index < 0 ? -1 : targets[node][index];
+    }
+
+    private static int linearSearch(char[] source, char character) {
+        for (int idx = 0; idx < source.length; idx++) {
+            if (source[idx] == character) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,11 +1,20 @@
 package com.hijackermax.utils.lang;
 
-import com.hijackermax.utils.builders.Transformer;
-import com.hijackermax.utils.entities.Single;
+import com.hijackermax.utils.compression.CompressionAlgorithm;
+import com.hijackermax.utils.compression.CompressionAlgorithms;
+import com.hijackermax.utils.compression.DecompressionLimitException;
+import com.hijackermax.utils.compression.DecompressionLimits;
+import com.hijackermax.utils.compression.GzipBatch;
+import com.hijackermax.utils.encoders.BinaryTextCodec;
 import com.hijackermax.utils.enums.ComparisonOperators;
+import com.hijackermax.utils.internal.ParallelSlices;
+import com.hijackermax.utils.io.AppendableOutputStream;
+import com.hijackermax.utils.io.CharSequenceInputStream;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
@@ -13,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -22,11 +33,8 @@ import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-import static com.hijackermax.utils.lang.CollectionUtils.safeStreamOf;
 import static com.hijackermax.utils.lang.NumberUtils.requireGreaterThanZero;
-import static com.hijackermax.utils.lang.ObjectUtils.valueOrDefault;
 import static java.util.Objects.isNull;
 
 /**
@@ -76,10 +84,11 @@ public final class StringUtils {
      */
     public static final String ONE = "1";
 
-    private static final Pattern WHITESPACES_PATTERN = Pattern.compile("\\s+");
-    private static final Pattern NON_DIGITS_PATTERN = Pattern.compile("[^\\d.]");
-    private static final Pattern DIGITS_PATTERN = Pattern.compile("[^\\D.]");
-    private static final Pattern NAMED_FORMAT_PATTERN = Pattern.compile("(?iu)(?:\\$\\{(?:(\\w+)(?:\\?`([^``]*|-|[^`]+[\\p{Alnum}\\p{IsAlnum}\\p{Punct}\\p{IsPunct}']+[\\s]?[^`]+)`)?(%\\w+)?)\\})");
+    private static final int BATCH_SLICES_PER_THREAD = 4;
+    private static final Capitalizer SPACE_CAPITALIZER = Capitalizer.of(' ');
+    private static final int ESTIMATED_JOINED_VALUE_LENGTH = 16;
+    private static final int MAX_CONVERTED_JOINED_ESTIMATE = 1 << 20;
+    private static final int MAX_JOINED_ESTIMATE = Integer.MAX_VALUE - 8;
 
     private StringUtils() {
     }
@@ -240,23 +249,91 @@ public final class StringUtils {
     public static <T> String join(Collection<? extends T> collection,
                                   CharSequence delimiter,
                                   Function<? super T, String> toStringConverter) {
-        return safeStreamOf(collection)
-                .filter(Objects::nonNull)
-                .map(toStringConverter)
-                .map(StringUtils::trimToEmpty)
-                .filter(StringUtils::isNotEmpty)
-                .collect(Collectors.joining(delimiter));
+        Objects.requireNonNull(delimiter);
+        if (isNull(collection) || collection.isEmpty()) {
+            return EMPTY;
+        }
+        return joined(estimateJoinedLength(collection.size(), delimiter),
+                target -> joinTo(collection, target, delimiter, toStringConverter));
+    }
+
+    /**
+     * Appends non-null {@link Collection} values, separated by provided delimiter, to provided {@link Appendable}.
+     * Values are converted, trimmed and written to target one by one, without intermediate strings or collections,
+     * result is the same as {@link #join(Collection, CharSequence, Function)} result.
+     *
+     * @param collection        {@link Collection} of elements that should be joined, can be null
+     * @param target            {@link Appendable} that should receive joined values
+     * @param delimiter         {@link CharSequence} which should separate values
+     * @param toStringConverter {@link Function} which converts {@link Collection} values to {@link String}
+     * @param <T>               {@link Collection} elements type
+     * @throws IOException in case of problems during appending to target
+     * @since 0.1.4
+     */
+    public static <T> void joinTo(Collection<? extends T> collection,
+                                  Appendable target,
+                                  CharSequence delimiter,
+                                  Function<? super T, String> toStringConverter) throws IOException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(delimiter);
+        if (isNull(collection) || collection.isEmpty()) {
+            return;
+        }
+        reserve(target, estimateJoinedLength(collection.size(), delimiter));
+        boolean first = true;
+        for (T value : collection) {
+            if (null == value) {
+                continue;
+            }
+            String converted = trimToEmpty(toStringConverter.apply(value));
+            if (converted.isEmpty()) {
+                continue;
+            }
+            if (!first) {
+                target.append(delimiter);
+            }
+            target.append(converted);
+            first = false;
+        }
     }
 
     /**
      * Removes all non-numeric chars if non-null {@link String} is provided, otherwise returns empty string
      *
      * @param source {@link String} that should be processed
-     * @return {@link String} with numeric chars only or empty string if input string is blank or null
+     * @return {@link String} with numeric chars only or empty string if input string is blank or null,
+     * source itself if there is nothing to remove
      * @since 0.0.1
      */
     public static String removeNonDigits(String source) {
-        return isBlank(source) ? EMPTY : NON_DIGITS_PATTERN.matcher(source).replaceAll(EMPTY);
+        return isBlank(source) ? EMPTY : removeChars(source, RemovedChars.NON_DIGITS);
+    }
+
+    /**
+     * Removes all non-numeric chars if non-null {@link CharSequence} is provided, otherwise returns empty string
+     *
+     * @param source {@link CharSequence} that should be processed
+     * @return {@link String} with numeric chars only or empty string if input is blank or null
+     * @since 0.1.4
+     */
+    public static String removeNonDigits(CharSequence source) {
+        return isBlank(source) ? EMPTY : removeChars(source, RemovedChars.NON_DIGITS);
+    }
+
+    /**
+     * Removes all non-numeric chars from provided {@link CharSequence} and appends the rest to provided {@link Appendable},
+     * nothing is appended if source is blank or null
+     *
+     * @param source {@link CharSequence} that should be processed
+     * @param target {@link Appendable} that should receive result
+     * @throws IOException in case of problems during appending to target
+     * @since 0.1.4
+     */
+    public static void removeNonDigits(CharSequence source, Appendable target) throws IOException {
+        Objects.requireNonNull(target);
+        if (!isBlank(source)) {
+            removeCharsTo(source, target, RemovedChars.NON_DIGITS);
+        }
     }
 
     /**
@@ -348,6 +425,46 @@ public final class StringUtils {
         return ObjectUtils.compress(source.getBytes(StandardCharsets.UTF_8), encoder);
     }
 
+    /**
+     * Compresses source {@link String} using GZIP and encodes it with provided {@link BinaryTextCodec}
+     *
+     * @param source {@link String} that needs to be compressed
+     * @param codec  {@link BinaryTextCodec} that should be used for encoding
+     * @return compressed with GZIP and encoded with provided codec {@link String}
+     * @throws IOException in case of problems during source {@link String} compression
+     * @since 0.1.4
+     */
+    public static String compress(String source, BinaryTextCodec codec) throws IOException {
+        return ObjectUtils.compress(source.getBytes(StandardCharsets.UTF_8), codec);
+    }
+
+    /**
+     * Compresses source {@link String} using provided {@link CompressionAlgorithm} and encodes it with provided {@link BinaryTextCodec}
+     *
+     * @param source    {@link String} that needs to be compressed
+     * @param codec     {@link BinaryTextCodec} that should be used for encoding
+     * @param algorithm {@link CompressionAlgorithm} that should be used for compression
+     * @return compressed with provided algorithm and encoded with provided codec {@link String}
+     * @throws IOException in case of problems during source {@link String} compression
+     * @since 0.1.4
+     */
+    public static String compress(String source, BinaryTextCodec codec, CompressionAlgorithm algorithm) throws IOException {
+        return ObjectUtils.compress(source.getBytes(StandardCharsets.UTF_8), codec, algorithm);
+    }
+
+    /**
+     * Compresses source {@link String} using provided {@link CompressionAlgorithm} and encodes it with provided encoder
+     *
+     * @param source    {@link String} that needs to be compressed
+     * @param encoder   byte array to {@link String} encoder
+     * @param algorithm {@link CompressionAlgorithm} that should be used for compression
+     * @return compressed with provided algorithm and encoded with provided encoder {@link String}
+     * @since 0.1.4
+     */
+    public static String compress(String source, Function<byte[], String> encoder, CompressionAlgorithm algorithm) {
+        return ObjectUtils.compress(source.getBytes(StandardCharsets.UTF_8), encoder, algorithm);
+    }
+
     /**
      * Decodes source {@link String} from Base64 and decompresses it with GZIP
      *
@@ -362,10 +479,11 @@ public final class StringUtils {
 
     /**
      * Decodes source {@link String} using provided decoder and decompresses it with GZIP
+     * or other registered {@link CompressionAlgorithm} detected by format tag
      *
      * @param source  {@link String} that needs to be decompressed
      * @param decoder {@link String} to byte array decoder
-     * @return decoded with provided decoder and decompressed with GZIP {@link String} or empty {@link String} if source is empty or null
+     * @return decoded with provided decoder and decompressed {@link String} or empty {@link String} if source is empty or null
      * @throws IOException in case of problems during source {@link String} decompression
      * @since 0.0.6
      */
@@ -373,6 +491,218 @@ public final class StringUtils {
         return new String(ObjectUtils.decompress(source, decoder), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Decodes source {@link String} using provided decoder and decompresses it with GZIP or other registered
+     * {@link CompressionAlgorithm} detected by format tag. Decompression is aborted as soon as
+     * decompressed data exceeds provided maximal length.
+     *
+     * @param source         {@link String} that needs to be decompressed
+     * @param decoder        {@link String} to byte array decoder
+     * @param maxOutputBytes maximal decompressed length in bytes
+     * @return decoded with provided decoder and decompressed {@link String} or empty {@link String} if source is empty or null
+     * @throws DecompressionLimitException if decompressed data exceeds maximal length
+     * @throws IOException                 in case of problems during source {@link String} decompression
+     * @throws IllegalArgumentException    if maximal length is negative
+     * @since 0.1.4
+     */
+    public static String decompress(String source, Function<String, byte[]> decoder, long maxOutputBytes) throws IOException {
+        return new String(ObjectUtils.decompress(source, decoder, maxOutputBytes), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes source {@link String} using provided decoder and decompresses it with GZIP or other registered
+     * {@link CompressionAlgorithm} detected by format tag. Decompression is aborted as soon as
+     * decompressed data exceeds limits.
+     *
+     * @param source  {@link String} that needs to be decompressed
+     * @param decoder {@link String} to byte array decoder
+     * @param limits  {@link DecompressionLimits} of decompressed data
+     * @return decoded with provided decoder and decompressed {@link String} or empty {@link String} if source is empty or null
+     * @throws DecompressionLimitException if decompressed data exceeds limits
+     * @throws IOException                 in case of problems during source {@link String} decompression
+     * @since 0.1.4
+     */
+    public static String decompress(String source, Function<String, byte[]> decoder, DecompressionLimits limits) throws IOException {
+        return new String(ObjectUtils.decompress(source, decoder, limits), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes source {@link String} using provided {@link BinaryTextCodec} and decompresses it with GZIP
+     * or other registered {@link CompressionAlgorithm} detected by format tag
+     *
+     * @param source {@link String} that needs to be decompressed
+     * @param codec  {@link BinaryTextCodec} that should be used for decoding
+     * @return decoded with provided codec and decompressed {@link String} or empty {@link String} if source is empty or null
+     * @throws IOException in case of problems during source {@link String} decompression
+     * @since 0.1.4
+     */
+    public static String decompress(String source, BinaryTextCodec codec) throws IOException {
+        return new String(ObjectUtils.decompress(source, codec), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes source {@link CharSequence} with UTF-8, compresses it using GZIP, encodes it with provided {@link BinaryTextCodec}
+     * and appends encoded text to target {@link Appendable}. Data is streamed through fixed-size buffers,
+     * without materializing source bytes or compressed data if codec supports streaming encoding.
+     *
+     * @param source {@link CharSequence} that needs to be compressed
+     * @param target {@link Appendable} that should receive compressed and encoded text
+     * @param codec  {@link BinaryTextCodec} that should be used for encoding
+     * @throws IOException in case of problems during compression or appending to target
+     * @since 0.1.4
+     */
+    public static void compressTo(CharSequence source, Appendable target, BinaryTextCodec codec) throws IOException {
+        try (var inputStream = new CharSequenceInputStream(source, StandardCharsets.UTF_8);
+             var outputStream = new AppendableOutputStream(target, codec.charset())) {
+            ObjectUtils.compressTo(inputStream, outputStream, codec);
+        }
+    }
+
+    /**
+     * Decodes source {@link CharSequence} with provided {@link BinaryTextCodec}, decompresses it with GZIP
+     * and appends resulting UTF-8 text to target {@link Appendable}. Data is streamed through fixed-size buffers,
+     * without materializing decoded or decompressed bytes if codec supports streaming decoding.
+     *
+     * @param source {@link CharSequence} that needs to be decompressed
+     * @param target {@link Appendable} that should receive decompressed text
+     * @param codec  {@link BinaryTextCodec} that should be used for decoding
+     * @throws IOException in case of problems during decompression or appending to target
+     * @since 0.1.4
+     */
+    public static void decompressFrom(CharSequence source, Appendable target, BinaryTextCodec codec) throws IOException {
+        try (var inputStream = new CharSequenceInputStream(source, codec.charset());
+             var outputStream = new AppendableOutputStream(target, StandardCharsets.UTF_8)) {
+            ObjectUtils.decompressFrom(inputStream, outputStream, codec);
+        }
+    }
+
+    /**
+     * Compresses each source {@link String} using GZIP and encodes it with provided {@link BinaryTextCodec}.
+     * Single deflater, UTF-8 encoder and scratch buffers are reused for the whole batch, results are equal
+     * to {@link #compress(String, BinaryTextCodec)} results.
+     *
+     * @param sources {@link Collection} of {@link String} that need to be compressed
+     * @param codec   {@link BinaryTextCodec} that should be used for encoding
+     * @return {@link List} of compressed and encoded {@link String} in sources order, empty {@link String} for null source
+     * @throws IOException in case of problems during compression of any source
+     * @since 0.1.4
+     */
+    public static List<String> compressAll(Collection<String> sources, BinaryTextCodec codec) throws IOException {
+        Objects.requireNonNull(codec);
+        String[] results = new String[sources.size()];
+        processSlice(sources.toArray(new String[0]), results, 0, results.length, compressOperation(codec));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Compresses each source {@link String} using GZIP and encodes it with provided {@link BinaryTextCodec} on provided
+     * {@link ForkJoinPool}. Sources are split to slices processed by pool tasks, each slice reuses its own
+     * deflater, UTF-8 encoder and scratch buffers. When any source fails, slices stop processing remaining sources
+     * and the failure is rethrown.
+     *
+     * @param sources {@link Collection} of {@link String} that need to be compressed
+     * @param codec   {@link BinaryTextCodec} that should be used for encoding
+     * @param pool    {@link ForkJoinPool} that should be used for compression
+     * @return {@link List} of compressed and encoded {@link String} in sources order, empty {@link String} for null source
+     * @throws IOException in case of problems during compression of any source
+     * @since 0.1.4
+     */
+    public static List<String> compressAllParallel(Collection<String> sources, BinaryTextCodec codec, ForkJoinPool pool) throws IOException {
+        Objects.requireNonNull(codec);
+        return processAllParallel(sources, pool, compressOperation(codec));
+    }
+
+    /**
+     * Decodes each source {@link String} using provided {@link BinaryTextCodec} and decompresses it with GZIP
+     * or other registered {@link CompressionAlgorithm} detected by format tag. Single inflater and scratch buffer
+     * are reused for the whole batch of GZIP data.
+     *
+     * @param sources {@link Collection} of {@link String} that need to be decompressed
+     * @param codec   {@link BinaryTextCodec} that should be used for decoding
+     * @return {@link List} of decompressed {@link String} in sources order, empty {@link String} for empty or null source
+     * @throws IOException in case of problems during decompression of any source
+     * @since 0.1.4
+     */
+    public static List<String> decompressAll(Collection<String> sources, BinaryTextCodec codec) throws IOException {
+        Objects.requireNonNull(codec);
+        String[] results = new String[sources.size()];
+        processSlice(sources.toArray(new String[0]), results, 0, results.length, decompressOperation(codec));
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Decodes each source {@link String} using provided {@link BinaryTextCodec} and decompresses it with GZIP
+     * or other registered {@link CompressionAlgorithm} detected by format tag on provided {@link ForkJoinPool}.
+     * Sources are split to slices processed by pool tasks, each slice reuses its own inflater and scratch buffer.
+     * When any source fails, slices stop processing remaining sources and the failure is rethrown.
+     *
+     * @param sources {@link Collection} of {@link String} that need to be decompressed
+     * @param codec   {@link BinaryTextCodec} that should be used for decoding
+     * @param pool    {@link ForkJoinPool} that should be used for decompression
+     * @return {@link List} of decompressed {@link String} in sources order, empty {@link String} for empty or null source
+     * @throws IOException in case of problems during decompression of any source
+     * @since 0.1.4
+     */
+    public static List<String> decompressAllParallel(Collection<String> sources, BinaryTextCodec codec, ForkJoinPool pool) throws IOException {
+        Objects.requireNonNull(codec);
+        return processAllParallel(sources, pool, decompressOperation(codec));
+    }
+
+    private static BatchOperation compressOperation(BinaryTextCodec codec) {
+        return (batch, source) -> null == source ? EMPTY : codec.encode(batch.compress(source));
+    }
+
+    private static BatchOperation decompressOperation(BinaryTextCodec codec) {
+        return (batch, source) -> {
+            if (isEmpty(source)) {
+                return EMPTY;
+            }
+            byte[] compressed = codec.decode(source);
+            if (0 != compressed.length && CompressionAlgorithms.GZIP_TAG == compressed[0]) {
+                return batch.decompressToString(compressed);
+            }
+            return new String(CompressionAlgorithms.decompress(compressed), StandardCharsets.UTF_8);
+        };
+    }
+
+    private static List<String> processAllParallel(Collection<String> sources, ForkJoinPool pool,
+                                                   BatchOperation operation) throws IOException {
+        Objects.requireNonNull(pool);
+        String[] sourcesArray = sources.toArray(new String[0]);
+        String[] results = new String[sourcesArray.length];
+        int slicesCount = Math.min(results.length, Math.max(1, pool.getParallelism() * BATCH_SLICES_PER_THREAD));
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        ParallelSlices.forEachSlice(pool, slicesCount, slice -> {
+            int from = (int) ((long) slice * results.length / slicesCount);
+            int to = (int) ((long) (slice + 1) * results.length / slicesCount);
+            try (GzipBatch batch = new GzipBatch()) {
+                for (int idx = from; idx < to && null == failure.get(); idx++) {
+                    results[idx] = operation.apply(batch, sourcesArray[idx]);
+                }
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        if (null != failure.get()) {
+            throw failure.get();
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void processSlice(String[] sources, String[] results, int from, int to,
+                                     BatchOperation operation) throws IOException {
+        try (GzipBatch batch = new GzipBatch()) {
+            for (int idx = from; idx < to; idx++) {
+                results[idx] = operation.apply(batch, sources[idx]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchOperation {
+        String apply(GzipBatch batch, String source) throws IOException;
+    }
+
     /**
      * Returns provided value {@link String} or default {@link String} if value is null, empty or blank
      *
@@ -389,11 +719,39 @@ public final class StringUtils {
      * Remove whitespaces if non-null {@link String} is provided, otherwise returns empty string
      *
      * @param source {@link String} to process
-     * @return {@link String} with removed whitespaces or empty string if input string is null
+     * @return {@link String} with removed whitespaces or empty string if input string is null,
+     * source itself if there is nothing to remove
      * @since 0.0.6
      */
     public static String removeWhitespaces(String source) {
-        return isBlank(source) ? EMPTY : WHITESPACES_PATTERN.matcher(source).replaceAll(EMPTY);
+        return isBlank(source) ? EMPTY : removeChars(source, RemovedChars.WHITESPACES);
+    }
+
+    /**
+     * Removes whitespaces if non-null {@link CharSequence} is provided, otherwise returns empty string
+     *
+     * @param source {@link CharSequence} that should be processed
+     * @return {@link String} with removed whitespaces or empty string if input is blank or null
+     * @since 0.1.4
+     */
+    public static String removeWhitespaces(CharSequence source) {
+        return isBlank(source) ? EMPTY : removeChars(source, RemovedChars.WHITESPACES);
+    }
+
+    /**
+     * Removes whitespaces from provided {@link CharSequence} and appends the rest to provided {@link Appendable},
+     * nothing is appended if source is blank or null
+     *
+     * @param source {@link CharSequence} that should be processed
+     * @param target {@link Appendable} that should receive result
+     * @throws IOException in case of problems during appending to target
+     * @since 0.1.4
+     */
+    public static void removeWhitespaces(CharSequence source, Appendable target) throws IOException {
+        Objects.requireNonNull(target);
+        if (!isBlank(source)) {
+            removeCharsTo(source, target, RemovedChars.WHITESPACES);
+        }
     }
 
     /**
@@ -413,38 +771,69 @@ public final class StringUtils {
      * Removes all digit chars if non-null {@link String} is provided, otherwise returns empty string
      *
      * @param source {@link String} that should be processed
-     * @return {@link String} with non-numeric chars only or empty string if input string is blank or null
+     * @return {@link String} with non-numeric chars only or empty string if input string is blank or null,
+     * source itself if there is nothing to remove
      * @since 0.0.8
      */
     public static String removeDigits(String source) {
-        return isBlank(source) ? EMPTY : DIGITS_PATTERN.matcher(source).replaceAll(EMPTY);
+        return isBlank(source) ? EMPTY : removeChars(source, RemovedChars.DIGITS);
+    }
+
+    /**
+     * Removes all digit chars if non-null {@link CharSequence} is provided, otherwise returns empty string
+     *
+     * @param source {@link CharSequence} that should be processed
+     * @return {@link String} with non-numeric chars only or empty string if input is blank or null
+     * @since 0.1.4
+     */
+    public static String removeDigits(CharSequence source) {
+        return isBlank(source) ? EMPTY : removeChars(source, RemovedChars.DIGITS);
+    }
+
+    /**
+     * Removes all digit chars from provided {@link CharSequence} and appends the rest to provided {@link Appendable},
+     * nothing is appended if source is blank or null
+     *
+     * @param source {@link CharSequence} that should be processed
+     * @param target {@link Appendable} that should receive result
+     * @throws IOException in case of problems during appending to target
+     * @since 0.1.4
+     */
+    public static void removeDigits(CharSequence source, Appendable target) throws IOException {
+        Objects.requireNonNull(target);
+        if (!isBlank(source)) {
+            removeCharsTo(source, target, RemovedChars.DIGITS);
+        }
     }
 
     /**
      * Replaces provided {@link CharSequence} values in provided {@link String} with corresponding replacement sequences
+     * in single left-to-right pass, the leftmost and then the longest match is replaced first and replaced text
+     * is not scanned again. Empty keys are ignored. If the same replacements are applied to many strings,
+     * {@link #replace(Map)} should be used instead, so replacements are compiled once.
      *
      * @param source       {@link String} that should be processed
      * @param replacements {@link Map} which contains {@link CharSequence} that should be replaced as key,
      *                     and {@link CharSequence} that should be used as replacement as value
      * @return original string if replacement map is empty or null,
-     * processed {@link String} or empty string if input string is blank or null
+     * processed {@link String} or empty string if input string is empty or null
+     * @see StringReplacer
      * @since 0.0.8
      */
     public static String replace(String source, Map<CharSequence, CharSequence> replacements) {
         if (isEmpty(source)) {
             return EMPTY;
         }
-        Single<String> result = new Single<>(source);
-        CollectionUtils.safeForEach(
-                replacements,
-                (from, to) -> result.modifyValueIfSatisfies(s -> s.replace(from, to), v -> v.contains(from))
-        );
-        return result.getValue();
+        if (CollectionUtils.isEmpty(replacements)) {
+            return source;
+        }
+        return StringReplacer.compile(replacements).apply(source);
     }
 
     /**
      * Provides {@link UnaryOperator} which replaces provided {@link CharSequence} values in provided {@link String}
-     * with corresponding replacement sequences
+     * with corresponding replacement sequences. Replacements are compiled to {@link StringReplacer} once,
+     * later changes of replacements map are not reflected.
      *
      * @param replacements {@link Map} which contains {@link CharSequence} that should be replaced as key,
      *                     and {@link CharSequence} that should be used as replacement as value
@@ -454,11 +843,13 @@ public final class StringUtils {
      * @since 0.0.8
      */
     public static UnaryOperator<String> replace(Map<CharSequence, CharSequence> replacements) {
-        return source -> replace(source, replacements);
+        return StringReplacer.compile(replacements);
     }
 
     /**
-     * Replaces provided substring value in source {@link String} with provided replacement {@link String}
+     * Replaces all case-insensitive occurrences of provided substring value in source {@link String}
+     * with provided replacement {@link String}. Both values are literal, characters are compared
+     * the same way as {@link String#equalsIgnoreCase(String)} does.
      *
      * @param source {@link String} that should be processed
      * @param from   substring that should be replaced
@@ -471,7 +862,148 @@ public final class StringUtils {
         if (isEmpty(from) || isEmpty(to)) {
             return source;
         }
-        return isBlank(source) ? EMPTY : source.replaceAll(String.format("(?i)%s", from), to);
+        return isBlank(source) ? EMPTY : replaceFolded(source, foldCase(from), to);
+    }
+
+    /**
+     * Provides {@link UnaryOperator} which replaces all case-insensitive occurrences of provided substring value
+     * with provided replacement {@link String}, substring is case-folded once,
+     * see {@link com.hijackermax.utils.lang.StringUtils#replaceIgnoreCase(String, String, String)} for additional details
+     *
+     * @param from substring that should be replaced
+     * @param to   replacement substring
+     * @return {@link UnaryOperator} which replaces provided substring value, it returns source as is
+     * if from or to substrings are empty or null
+     * @since 0.1.4
+     */
+    public static UnaryOperator<String> replaceIgnoreCase(String from, String to) {
+        if (isEmpty(from) || isEmpty(to)) {
+            return UnaryOperator.identity();
+        }
+        char[] foldedFrom = foldCase(from);
+        return source -> isBlank(source) ? EMPTY : replaceFolded(source, foldedFrom, to);
+    }
+
+    private static String replaceFolded(String source, char[] foldedFrom, String to) {
+        StringBuilder target = null;
+        int copied = 0;
+        int last = source.length() - foldedFrom.length;
+        int position = 0;
+        while (position <= last) {
+            if (foldCase(source.charAt(position)) == foldedFrom[0] && regionMatchesFolded(source, position, foldedFrom)) {
+                if (null == target) {
+                    target = new StringBuilder(source.length() + Math.max(0, to.length() - foldedFrom.length) * 4);
+                }
+                target.append(source, copied, position).append(to);
+                position += foldedFrom.length;
+                copied = position;
+            } else {
+                position++;
+            }
+        }
+        return null == target ? source : target.append(source, copied, source.length()).toString();
+    }
+
+    private static boolean regionMatchesFolded(String source, int offset, char[] foldedFrom) {
+        for (int idx = 1; idx < foldedFrom.length; idx++) {
+            if (foldCase(source.charAt(offset + idx)) != foldedFrom[idx]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char[] foldCase(String source) {
+        char[] folded = source.toCharArray();
+        for (int idx = 0; idx < folded.length; idx++) {
+            folded[idx] = foldCase(folded[idx]);
+        }
+        return folded;
+    }
+
+    private static char foldCase(char character) {
+        if (character < 0x80) {
+            return character >= 'A' && character <= 'Z' ? (char) (character + ('a' - 'A')) : character;
+        }
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    private static boolean isBlank(CharSequence value) {
+        if (isNull(value) || value instanceof String) {
+            return isBlank((String) value);
+        }
+        for (int idx = 0; idx < value.length(); idx++) {
+            if (!Character.isWhitespace(value.charAt(idx))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies chars that should be kept to exact-size array, source is returned as is if there is nothing to remove
+     */
+    private static String removeChars(CharSequence source, RemovedChars removed) {
+        int length = source.length();
+        int first = 0;
+        while (first < length && !removed.contains(source.charAt(first))) {
+            first++;
+        }
+        if (first == length) {
+            return source.toString();
+        }
+        int kept = first;
+        for (int idx = first + 1; idx < length; idx++) {
+            if (!removed.contains(source.charAt(idx))) {
+                kept++;
+            }
+        }
+        char[] result = new char[kept];
+        int position = 0;
+        for (int idx = 0; idx < length; idx++) {
+            char character = source.charAt(idx);
+            if (idx < first || !removed.contains(character)) {
+                result[position++] = character;
+            }
+        }
+        return new String(result);
+    }
+
+    private static void removeCharsTo(CharSequence source, Appendable target, RemovedChars removed) throws IOException {
+        int length = source.length();
+        int runStart = 0;
+        for (int idx = 0; idx < length; idx++) {
+            if (removed.contains(source.charAt(idx))) {
+                if (runStart < idx) {
+                    target.append(source, runStart, idx);
+                }
+                runStart = idx + 1;
+            }
+        }
+        if (runStart < length) {
+            target.append(source, runStart, length);
+        }
+    }
+
+    /**
+     * Char classes removed by {@link #removeDigits(String)}, {@link #removeNonDigits(String)} and
+     * {@link #removeWhitespaces(String)}: ASCII digits, all chars except ASCII digits and dots, and ASCII whitespaces
+     */
+    private enum RemovedChars {
+        DIGITS,
+        NON_DIGITS,
+        WHITESPACES;
+
+        private boolean contains(char character) {
+            switch (this) {
+                case DIGITS:
+                    return character >= '0' && character <= '9';
+                case NON_DIGITS:
+                    return (character < '0' || character > '9') && '.' != character;
+                default:
+                    return ' ' == character || (character >= '\t' && character <= '\r');
+            }
+        }
     }
 
     /**
@@ -558,7 +1090,7 @@ public final class StringUtils {
      * @since 0.0.9
      */
     public static String capitalize(String source) {
-        return capitalize(source, ' ');
+        return SPACE_CAPITALIZER.apply(source);
     }
 
     /**
@@ -567,6 +1099,7 @@ public final class StringUtils {
      * @param source     the value to capitalize
      * @param delimiters the words delimiters
      * @return capitalized string or empty string if null or blank string is provided or source string if no delimiters provided
+     * @see Capitalizer
      * @since 0.0.9
      */
     public static String capitalize(String source, char... delimiters) {
@@ -577,34 +1110,7 @@ public final class StringUtils {
             return source;
         }
 
-        Set<Integer> delimiterValues = IntStream.range(0, delimiters.length)
-                .mapToObj(idx -> Character.codePointAt(delimiters, idx))
-                .collect(Collectors.toSet());
-
-        String lowerCaseSource = source.trim().toLowerCase();
-        int sourceLength = lowerCaseSource.length();
-        int[] resultValues = new int[sourceLength];
-        int resultEndIdx = 0;
-        boolean capitalizeNext = false;
-        for (int idx = 0; idx < sourceLength; ) {
-            int charAt = lowerCaseSource.codePointAt(idx);
-            if (delimiterValues.contains(charAt)) {
-                capitalizeNext = true;
-                idx += Character.charCount(charAt);
-                resultValues[resultEndIdx++] = charAt;
-                continue;
-            }
-            if (capitalizeNext || 0 == idx) {
-                int newValue = Character.toTitleCase(charAt);
-                idx += Character.charCount(newValue);
-                resultValues[resultEndIdx++] = newValue;
-                capitalizeNext = false;
-                continue;
-            }
-            idx += Character.charCount(charAt);
-            resultValues[resultEndIdx++] = charAt;
-        }
-        return new String(resultValues, 0, resultEndIdx);
+        return Capitalizer.of(delimiters).apply(source);
     }
 
     /**
@@ -670,8 +1176,9 @@ public final class StringUtils {
      *     <li>"keyOne" is an example of key in provided values map</li>
      *     <li>"?`onMissing`" is an example of default value ("onMissing") if token key is missing in values map or associated with null value. Supports alpha-numerics, spaces, punctuation. Optional part of token, can be omitted, if not provided empty string will be used instead</li>
      *     <li>If value associated with key not found and default value is not provided token will returned as is</li>
-     *     <li>"%s" is an example of value formatting ("%s"), standard {@link String#format(String, Object...)} format is supported. Optional part of token, can be omitted, if not provided {@link String#valueOf(Object)} will be used instead</li>
+     *     <li>"%s" is an example of value formatting ("%s"), standard {@link String#format(String, Object...)} format with flags, width and precision is supported, for example "%08d" or "%.2f". Optional part of token, can be omitted, if not provided {@link String#valueOf(Object)} will be used instead</li>
      *  </ul>
+     * <p> Templates are compiled once and kept in bounded cache, see {@link NamedTemplate}
      *
      * @param template template of resulting string
      * @param values   {@link Map} of values that should replace tokens in provided template
@@ -687,17 +1194,7 @@ public final class StringUtils {
         if (isBlank(template) || Objects.isNull(values)) {
             return template;
         }
-        Transformer<String> transformer = Transformer.of(template);
-        NAMED_FORMAT_PATTERN.matcher(template).results().forEach(matchResult -> {
-            String format = matchResult.group(3);
-            Object providedValue = values.get(matchResult.group(1));
-            String group = matchResult.group(0);
-            String replacement = isNull(providedValue) ?
-                    valueOrDefault(matchResult.group(2), group) : isEmpty(format) ?
-                    String.valueOf(providedValue) : String.format(format, providedValue);
-            transformer.run(v -> v.replace(group, replacement));
-        });
-        return transformer.result();
+        return NamedTemplate.cached(template).render(values);
     }
 
     /**
@@ -714,9 +1211,7 @@ public final class StringUtils {
         if (Objects.isNull(sourcePattern) || isBlank(source) || isBlank(template)) {
             return EMPTY;
         }
-        Set<String> keys = NAMED_FORMAT_PATTERN.matcher(template).results()
-                .map(mr -> mr.group(1))
-                .collect(Collectors.toSet());
+        Set<String> keys = NamedTemplate.cached(template).keys();
         Matcher matcher = sourcePattern.matcher(source);
         Map<String, Object> values = new HashMap<>();
         while (matcher.find()) {
@@ -740,9 +1235,41 @@ public final class StringUtils {
      * @since 0.1.3
      */
     public static Function<Collection<? extends CharSequence>, String> join(CharSequence delimiter) {
-        return collection -> safeStreamOf(collection)
-                .filter(StringUtils::isNotEmpty)
-                .collect(Collectors.joining(delimiter));
+        Objects.requireNonNull(delimiter);
+        return collection -> isNull(collection) || collection.isEmpty() ? EMPTY
+                : joined(joinedLength(collection, delimiter.length()), target -> joinTo(collection, target, delimiter));
+    }
+
+    /**
+     * Appends non-empty {@link CharSequence} values of provided {@link Collection}, separated by provided delimiter,
+     * to provided {@link Appendable}, result is the same as {@link #join(CharSequence)} function result
+     *
+     * @param collection {@link Collection} of {@link CharSequence} that should be joined, can be null
+     * @param target     {@link Appendable} that should receive joined values
+     * @param delimiter  {@link CharSequence} which should separate values
+     * @throws IOException in case of problems during appending to target
+     * @since 0.1.4
+     */
+    public static void joinTo(Collection<? extends CharSequence> collection,
+                              Appendable target,
+                              CharSequence delimiter) throws IOException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(delimiter);
+        if (isNull(collection) || collection.isEmpty()) {
+            return;
+        }
+        reserve(target, joinedLength(collection, delimiter.length()));
+        boolean first = true;
+        for (CharSequence value : collection) {
+            if (isEmpty(value)) {
+                continue;
+            }
+            if (!first) {
+                target.append(delimiter);
+            }
+            target.append(value);
+            first = false;
+        }
     }
 
     /**
@@ -760,13 +1287,51 @@ public final class StringUtils {
                                    CharSequence inGroupDelimiter,
                                    CharSequence groupDelimiter,
                                    int groupSize) {
-        List<String> valuesList = safeStreamOf(values)
-                .filter(StringUtils::isNotEmpty)
-                .collect(Collectors.toList());
-        List<List<String>> partitions = CollectionUtils.partition(valuesList, groupSize);
-        return partitions.stream()
-                .map(join(inGroupDelimiter))
-                .collect(Collectors.joining(groupDelimiter));
+        Objects.requireNonNull(inGroupDelimiter);
+        Objects.requireNonNull(groupDelimiter);
+        if (isNull(values) || values.isEmpty() || groupSize < 1) {
+            return EMPTY;
+        }
+        return joined(joinedLength(values, Math.max(inGroupDelimiter.length(), groupDelimiter.length())),
+                target -> joinGroupTo(values, target, inGroupDelimiter, groupDelimiter, groupSize));
+    }
+
+    /**
+     * Joins provided {@link Collection} of {@link String} in groups with provided delimiters and group size
+     * and appends result to provided {@link Appendable}. Source is iterated once and values are written to target
+     * as they come, result is the same as {@link #joinGroup(Collection, CharSequence, CharSequence, int)} result.
+     *
+     * @param values           {@link Collection} of {@link String} to group and join, can be null
+     * @param target           {@link Appendable} that should receive joined values
+     * @param inGroupDelimiter delimiter of values inside the group
+     * @param groupDelimiter   delimiter of groups
+     * @param groupSize        size of resulting groups, nothing is appended if it is 0 or less
+     * @throws IOException in case of problems during appending to target
+     * @since 0.1.4
+     */
+    public static void joinGroupTo(Collection<String> values,
+                                   Appendable target,
+                                   CharSequence inGroupDelimiter,
+                                   CharSequence groupDelimiter,
+                                   int groupSize) throws IOException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(inGroupDelimiter);
+        Objects.requireNonNull(groupDelimiter);
+        if (isNull(values) || values.isEmpty() || groupSize < 1) {
+            return;
+        }
+        reserve(target, joinedLength(values, Math.max(inGroupDelimiter.length(), groupDelimiter.length())));
+        int count = 0;
+        for (String value : values) {
+            if (isEmpty(value)) {
+                continue;
+            }
+            if (0 != count) {
+                target.append(0 == count % groupSize ? groupDelimiter : inGroupDelimiter);
+            }
+            target.append(value);
+            count++;
+        }
     }
 
     /**
@@ -787,12 +1352,107 @@ public final class StringUtils {
                                        CharSequence inGroupDelimiter,
                                        CharSequence groupDelimiter,
                                        int groupSize) {
-        List<T> valuesList = safeStreamOf(values)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        List<List<T>> partitions = CollectionUtils.partition(valuesList, groupSize);
-        return partitions.stream()
-                .map(v -> join(inGroupDelimiter, toStringConverter).apply(v))
-                .collect(Collectors.joining(groupDelimiter));
+        Objects.requireNonNull(inGroupDelimiter);
+        Objects.requireNonNull(groupDelimiter);
+        if (isNull(values) || values.isEmpty() || groupSize < 1) {
+            return EMPTY;
+        }
+        return joined(estimateJoinedLength(values.size(), inGroupDelimiter),
+                target -> joinGroupTo(values, target, toStringConverter, inGroupDelimiter, groupDelimiter, groupSize));
+    }
+
+    /**
+     * Joins provided {@link Collection} in groups with provided delimiters and group size and appends result
+     * to provided {@link Appendable}. Groups are formed from non-null values, values which are empty after conversion
+     * and trimming are skipped inside their group. Source is iterated once and values are written to target as they come,
+     * result is the same as {@link #joinGroup(Collection, Function, CharSequence, CharSequence, int)} result.
+     *
+     * @param values            {@link Collection} to group and join, can be null
+     * @param target            {@link Appendable} that should receive joined values
+     * @param toStringConverter {@link Function} which converts {@link Collection} values to {@link String}
+     * @param inGroupDelimiter  delimiter of values inside the group
+     * @param groupDelimiter    delimiter of groups
+     * @param groupSize         size of resulting groups, nothing is appended if it is 0 or less
+     * @param <T>               {@link Collection} elements type
+     * @throws IOException in case of problems during appending to target
+     * @since 0.1.4
+     */
+    public static <T> void joinGroupTo(Collection<T> values,
+                                       Appendable target,
+                                       Function<T, String> toStringConverter,
+                                       CharSequence inGroupDelimiter,
+                                       CharSequence groupDelimiter,
+                                       int groupSize) throws IOException {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(inGroupDelimiter);
+        Objects.requireNonNull(groupDelimiter);
+        if (isNull(values) || values.isEmpty() || groupSize < 1) {
+            return;
+        }
+        reserve(target, estimateJoinedLength(values.size(), inGroupDelimiter));
+        int count = 0;
+        boolean groupStarted = false;
+        for (T value : values) {
+            if (null == value) {
+                continue;
+            }
+            if (0 != count && 0 == count % groupSize) {
+                target.append(groupDelimiter);
+                groupStarted = false;
+            }
+            count++;
+            String converted = trimToEmpty(toStringConverter.apply(value));
+            if (converted.isEmpty()) {
+                continue;
+            }
+            if (groupStarted) {
+                target.append(inGroupDelimiter);
+            }
+            target.append(converted);
+            groupStarted = true;
+        }
+    }
+
+    private static String joined(int estimatedLength, JoinOperation operation) {
+        StringBuilder target = new StringBuilder(estimatedLength);
+        try {
+            operation.appendTo(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return target.toString();
+    }
+
+    private static void reserve(Appendable target, int length) {
+        if (target instanceof StringBuilder) {
+            StringBuilder builder = (StringBuilder) target;
+            builder.ensureCapacity((int) Math.min((long) builder.length() + length, MAX_JOINED_ESTIMATE));
+        }
+    }
+
+    /**
+     * Exact length of values with delimiter after each value, so it is never smaller than joined length
+     */
+    private static int joinedLength(Collection<? extends CharSequence> values, int delimiterLength) {
+        long length = 0;
+        for (CharSequence value : values) {
+            if (null != value) {
+                length += value.length() + delimiterLength;
+            }
+        }
+        return (int) Math.min(length, MAX_JOINED_ESTIMATE);
+    }
+
+    /**
+     * Length estimate for values which are converted to strings during joining, bounded to limit over-allocation
+     */
+    private static int estimateJoinedLength(int valuesCount, CharSequence delimiter) {
+        long length = (long) valuesCount * (ESTIMATED_JOINED_VALUE_LENGTH + delimiter.length());
+        return (int) Math.min(length, MAX_CONVERTED_JOINED_ESTIMATE);
+    }
+
+    @FunctionalInterface
+    private interface JoinOperation {
+        void appendTo(Appendable target) throws IOException;
     }
 }
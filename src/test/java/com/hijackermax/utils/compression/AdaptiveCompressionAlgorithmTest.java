@@ -0,0 +1,91 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveCompressionAlgorithmTest {
+    @Test
+    void testStoresShortInputs() throws IOException {
+        AdaptiveCompressionAlgorithm algorithm = new AdaptiveCompressionAlgorithm(CompressionAlgorithms.GZIP);
+        byte[] source = "short".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = algorithm.compress(source);
+        assertEquals(CompressionAlgorithms.STORED_TAG, compressed[0]);
+        assertEquals(source.length + 1, compressed.length);
+        assertArrayEquals(source, algorithm.decompress(compressed));
+        assertArrayEquals(source, CompressionAlgorithms.decompress(compressed));
+        assertEquals(1, algorithm.getStoredCount());
+        assertEquals(0, algorithm.getCompressedCount());
+        assertEquals(-1, algorithm.getBytesSaved());
+    }
+
+    @Test
+    void testStoresHighEntropyInputs() throws IOException {
+        AdaptiveCompressionAlgorithm algorithm = new AdaptiveCompressionAlgorithm(CompressionAlgorithms.DEFLATE);
+        byte[] source = new byte[100000];
+        new Random(1).nextBytes(source);
+        byte[] compressed = algorithm.compress(source);
+        assertEquals(CompressionAlgorithms.STORED_TAG, compressed[0]);
+        assertArrayEquals(source, algorithm.decompress(compressed));
+        byte[] gzipped = Gzip.compress(GzipTest.textLike(new Random(2), 100000));
+        assertEquals(CompressionAlgorithms.STORED_TAG, algorithm.compress(gzipped)[0]);
+        assertEquals(2, algorithm.getStoredCount());
+    }
+
+    @Test
+    void testStoresWhenCompressionDoesNotPayOff() {
+        AdaptiveCompressionAlgorithm algorithm = new AdaptiveCompressionAlgorithm(CompressionAlgorithms.GZIP, 0, 4096, 8);
+        byte[] source = new byte[200];
+        new Random(3).nextBytes(source);
+        assertEquals(CompressionAlgorithms.STORED_TAG, algorithm.compress(source)[0]);
+        assertEquals(1, algorithm.getStoredCount());
+    }
+
+    @Test
+    void testCompressesLowEntropyInputs() throws IOException {
+        AdaptiveCompressionAlgorithm algorithm = new AdaptiveCompressionAlgorithm(CompressionAlgorithms.LZ4);
+        byte[] source = GzipTest.textLike(new Random(4), 50000);
+        byte[] compressed = algorithm.compress(source);
+        assertEquals(CompressionAlgorithms.LZ4_TAG, compressed[0]);
+        assertEquals(CompressionAlgorithms.LZ4_TAG, algorithm.tag());
+        assertEquals("adaptive-lz4", algorithm.name());
+        assertArrayEquals(source, algorithm.decompress(compressed));
+        assertEquals(1, algorithm.getCompressedCount());
+        assertEquals(source.length, algorithm.getInputBytes());
+        assertEquals(compressed.length, algorithm.getOutputBytes());
+        assertEquals(source.length - compressed.length, algorithm.getBytesSaved());
+        assertTrue(algorithm.getCompressionNanos() > 0);
+        assertThrows(ZipException.class, () -> algorithm.decompress(CompressionAlgorithms.DEFLATE.compress(source)));
+    }
+
+    @Test
+    void testEntropy() {
+        assertEquals(0, AdaptiveCompressionAlgorithm.entropy(new byte[0], 0, 0));
+        assertEquals(0, AdaptiveCompressionAlgorithm.entropy(new byte[100], 0, 100), 1e-9);
+        assertEquals(1, AdaptiveCompressionAlgorithm.entropy(new byte[]{0, 1, 0, 1}, 0, 4), 1e-9);
+        byte[] allBytes = new byte[512];
+        for (int idx = 0; idx < allBytes.length; idx++) {
+            allBytes[idx] = (byte) idx;
+        }
+        assertEquals(8, AdaptiveCompressionAlgorithm.entropy(allBytes, 0, allBytes.length), 1e-9);
+        assertEquals(2, AdaptiveCompressionAlgorithm.entropy(allBytes, 10, 4), 1e-9);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        CompressionAlgorithm delegate = CompressionAlgorithms.GZIP;
+        assertThrows(NullPointerException.class, () -> new AdaptiveCompressionAlgorithm(null));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveCompressionAlgorithm(delegate, -1, 10, 7));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveCompressionAlgorithm(delegate, 1, 0, 7));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveCompressionAlgorithm(delegate, 1, 10, 8.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveCompressionAlgorithm(delegate, 1, 10, Double.NaN));
+    }
+}
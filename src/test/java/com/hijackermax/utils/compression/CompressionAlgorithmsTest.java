@@ -0,0 +1,162 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionAlgorithmsTest {
+    private static final List<CompressionAlgorithm> DEFAULT_ALGORITHMS = List.of(
+            CompressionAlgorithms.GZIP, CompressionAlgorithms.DEFLATE, CompressionAlgorithms.LZ4, CompressionAlgorithms.STORED
+    );
+
+    @Test
+    void testRoundTrip() throws IOException {
+        Random random = new Random(9);
+        for (int length : new int[]{0, 1, 127, 128, 1000, 20000, 200000}) {
+            byte[] source = GzipTest.textLike(random, length);
+            for (CompressionAlgorithm algorithm : DEFAULT_ALGORITHMS) {
+                byte[] compressed = algorithm.compress(source);
+                assertEquals(algorithm.tag(), compressed[0]);
+                assertArrayEquals(source, algorithm.decompress(compressed));
+                assertArrayEquals(source, CompressionAlgorithms.decompress(compressed));
+            }
+        }
+    }
+
+    @Test
+    void testFormatOverhead() {
+        byte[] source = "x".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(2, CompressionAlgorithms.STORED.compress(source).length);
+        assertEquals(4, CompressionAlgorithms.LZ4.compress(source).length);
+        assertTrue(CompressionAlgorithms.DEFLATE.compress(source).length < CompressionAlgorithms.GZIP.compress(source).length - 15);
+    }
+
+    @Test
+    void testPlainGzipDetected() throws IOException {
+        byte[] source = "Plain GZIP data".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(source, CompressionAlgorithms.decompress(GzipTest.gzip(source, 6)));
+    }
+
+    @Test
+    void testLookup() {
+        assertTrue(CompressionAlgorithms.names().containsAll(Set.of("gzip", "deflate", "lz4", "stored")));
+        assertSame(CompressionAlgorithms.LZ4, CompressionAlgorithms.forName("LZ4"));
+        assertSame(CompressionAlgorithms.GZIP, CompressionAlgorithms.forTag(CompressionAlgorithms.GZIP_TAG));
+        assertThrows(IllegalArgumentException.class, () -> CompressionAlgorithms.forName("zstd"));
+        assertThrows(IllegalArgumentException.class, () -> CompressionAlgorithms.forTag((byte) 0x7f));
+        assertFalse(CompressionAlgorithms.register(CompressionAlgorithms.gzip(DeflaterPool.getDefault(), InflaterPool.getDefault())));
+    }
+
+    @Test
+    void testRegister() throws IOException {
+        CompressionAlgorithm reversed = new CompressionAlgorithm() {
+            @Override
+            public String name() {
+                return "Reversed";
+            }
+
+            @Override
+            public byte tag() {
+                return 0x60;
+            }
+
+            @Override
+            public byte[] compress(byte[] source) {
+                byte[] target = new byte[source.length + 1];
+                target[0] = tag();
+                for (int idx = 0; idx < source.length; idx++) {
+                    target[idx + 1] = source[source.length - 1 - idx];
+                }
+                return target;
+            }
+
+            @Override
+            public byte[] decompress(byte[] source) {
+                byte[] target = new byte[source.length - 1];
+                for (int idx = 0; idx < target.length; idx++) {
+                    target[idx] = source[source.length - 1 - idx];
+                }
+                return target;
+            }
+        };
+        assertTrue(CompressionAlgorithms.register(reversed));
+        assertFalse(CompressionAlgorithms.register(reversed));
+        assertSame(reversed, CompressionAlgorithms.forName("reversed"));
+        byte[] source = "abc".getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(source, CompressionAlgorithms.decompress(reversed.compress(source)));
+    }
+
+    @Test
+    void testDecompressInvalid() {
+        byte[] source = "Some data that should be compressed, some data".getBytes(StandardCharsets.UTF_8);
+        assertThrows(EOFException.class, () -> CompressionAlgorithms.decompress(new byte[0]));
+        assertThrows(ZipException.class, () -> CompressionAlgorithms.decompress(new byte[]{0x7e, 1, 2}));
+        for (CompressionAlgorithm algorithm : List.of(CompressionAlgorithms.DEFLATE, CompressionAlgorithms.LZ4)) {
+            byte[] compressed = algorithm.compress(source);
+            assertThrows(IOException.class, () -> algorithm.decompress(Arrays.copyOf(compressed, compressed.length - 1)));
+            assertThrows(EOFException.class, () -> algorithm.decompress(new byte[]{algorithm.tag()}));
+            assertThrows(ZipException.class, () -> algorithm.decompress(CompressionAlgorithms.STORED.compress(source)));
+            byte[] wrongLength = compressed.clone();
+            wrongLength[1]++;
+            assertThrows(ZipException.class, () -> algorithm.decompress(wrongLength));
+            byte[] hugeLength = {algorithm.tag(), (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x07, 0x00};
+            assertThrows(ZipException.class, () -> algorithm.decompress(hugeLength));
+            byte[] malformedLength = {algorithm.tag(), (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x7f, 0x00};
+            assertThrows(ZipException.class, () -> algorithm.decompress(malformedLength));
+        }
+    }
+
+    @Test
+    void testDecompressWithLimits() throws IOException {
+        byte[] source = new byte[1024 * 1024];
+        for (CompressionAlgorithm algorithm : DEFAULT_ALGORITHMS) {
+            byte[] compressed = algorithm.compress(source);
+            assertArrayEquals(source, CompressionAlgorithms.decompress(compressed, DecompressionLimits.ofMaxOutputBytes(source.length)));
+            assertArrayEquals(source, algorithm.decompress(compressed, DecompressionLimits.UNLIMITED));
+            DecompressionLimitException exception = assertThrows(DecompressionLimitException.class,
+                    () -> CompressionAlgorithms.decompress(compressed, DecompressionLimits.ofMaxOutputBytes(source.length - 1)));
+            assertEquals(compressed.length, exception.getCompressedLength());
+        }
+        for (CompressionAlgorithm algorithm : List.of(CompressionAlgorithms.GZIP, CompressionAlgorithms.DEFLATE, CompressionAlgorithms.LZ4)) {
+            byte[] compressed = algorithm.compress(source);
+            assertThrows(DecompressionLimitException.class,
+                    () -> CompressionAlgorithms.decompress(compressed, new DecompressionLimits(Long.MAX_VALUE, 50)));
+        }
+    }
+
+    @Test
+    void testDeclaredLengthRejectedBeforeDecoding() {
+        for (byte tag : new byte[]{CompressionAlgorithms.DEFLATE_TAG, CompressionAlgorithms.LZ4_TAG}) {
+            byte[] declaredBomb = Arrays.copyOf(new byte[]{tag, (byte) 0xa0, (byte) 0x8d, 0x06}, 1000);
+            DecompressionLimitException exception = assertThrows(DecompressionLimitException.class,
+                    () -> CompressionAlgorithms.decompress(declaredBomb, DecompressionLimits.ofMaxOutputBytes(1024)));
+            assertEquals(100000, exception.getDecompressedLength());
+        }
+    }
+
+    @Test
+    void testAdaptiveDecompressWithLimits() throws IOException {
+        AdaptiveCompressionAlgorithm algorithm = new AdaptiveCompressionAlgorithm(CompressionAlgorithms.DEFLATE);
+        byte[] compressible = new byte[4096];
+        byte[] stored = new byte[16];
+        assertArrayEquals(stored, algorithm.decompress(algorithm.compress(stored), DecompressionLimits.ofMaxOutputBytes(16)));
+        assertThrows(DecompressionLimitException.class,
+                () -> algorithm.decompress(algorithm.compress(stored), DecompressionLimits.ofMaxOutputBytes(15)));
+        assertThrows(DecompressionLimitException.class,
+                () -> algorithm.decompress(algorithm.compress(compressible), DecompressionLimits.ofMaxOutputBytes(4095)));
+    }
+}
@@ -0,0 +1,97 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressionDictionaryTest {
+    private static final String[] CITIES = {"Kyiv", "Lviv", "Oslo", "Riga", "Tallinn", "Vilnius"};
+
+    @Test
+    void testTrainAndCompress() throws IOException {
+        Random random = new Random(17);
+        List<String> samples = IntStream.range(0, 200)
+                .mapToObj(idx -> jsonFragment(random))
+                .collect(Collectors.toList());
+        CompressionDictionary dictionary = CompressionDictionary.train(1001, samples, 4096);
+        assertEquals(1001, dictionary.getId());
+        assertTrue(dictionary.length() <= 4096);
+        String dictionaryContent = new String(dictionary.getContent(), StandardCharsets.UTF_8);
+        assertTrue(dictionaryContent.contains("\"customerId\":"));
+        assertTrue(dictionaryContent.contains("\"shippingAddress\":{\"city\":\""));
+
+        CompressionAlgorithm algorithm = CompressionAlgorithms.dictionary(dictionary);
+        byte[] payload = jsonFragment(random).getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = algorithm.compress(payload);
+        assertEquals(CompressionAlgorithms.DICTIONARY_TAG, compressed[0]);
+        assertTrue(compressed.length * 2 < CompressionAlgorithms.DEFLATE.compress(payload).length);
+        assertArrayEquals(payload, algorithm.decompress(compressed));
+
+        assertThrows(ZipException.class, () -> CompressionAlgorithms.decompress(compressed));
+        assertTrue(CompressionDictionary.register(dictionary));
+        assertFalse(CompressionDictionary.register(new CompressionDictionary(1001, new byte[]{1})));
+        assertSame(dictionary, CompressionDictionary.forId(1001));
+        assertTrue(CompressionDictionary.ids().contains(1001));
+        assertArrayEquals(payload, CompressionAlgorithms.decompress(compressed));
+        assertArrayEquals(payload, CompressionAlgorithms.DICTIONARY.decompress(compressed));
+    }
+
+    @Test
+    void testDictionaryChecksum() throws IOException {
+        CompressionDictionary original = new CompressionDictionary(2002, "{\"status\":\"PAID\"}".getBytes(StandardCharsets.UTF_8));
+        CompressionDictionary retrained = new CompressionDictionary(2002, "{\"status\":\"SHIPPED\"}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(0x024d0127, new CompressionDictionary(1, "abc".getBytes(StandardCharsets.US_ASCII)).getChecksum());
+        byte[] payload = "{\"status\":\"PAID\",\"total\":12}".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = CompressionAlgorithms.dictionary(original).compress(payload);
+        assertArrayEquals(payload, CompressionAlgorithms.dictionary(original).decompress(compressed));
+        ZipException exception = assertThrows(ZipException.class,
+                () -> CompressionAlgorithms.dictionary(retrained).decompress(compressed));
+        assertTrue(exception.getMessage().contains("2002"));
+        assertTrue(CompressionDictionary.register(retrained));
+        assertThrows(ZipException.class, () -> CompressionAlgorithms.decompress(compressed));
+        assertThrows(EOFException.class, () -> CompressionAlgorithms.DICTIONARY.decompress(Arrays.copyOf(compressed, 5)));
+    }
+
+    @Test
+    void testTrainWithoutCommonSubstrings() {
+        CompressionDictionary dictionary = CompressionDictionary.train(1, List.of("abc", "defghijklmnopqrstuvwxyz"), 10);
+        assertArrayEquals("qrstuvwxyz".getBytes(StandardCharsets.US_ASCII), dictionary.getContent());
+        CompressionDictionary singleSample = CompressionDictionary.train(2, List.of("single sample"));
+        assertArrayEquals("single sample".getBytes(StandardCharsets.US_ASCII), singleSample.getContent());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressionDictionary(-1, new byte[1]));
+        assertThrows(IllegalArgumentException.class, () -> new CompressionDictionary(1, new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> new CompressionDictionary(1, new byte[CompressionDictionary.MAX_LENGTH + 1]));
+        assertThrows(IllegalArgumentException.class, () -> CompressionDictionary.train(1, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> CompressionDictionary.train(1, List.of(""), 10));
+        assertThrows(IllegalArgumentException.class, () -> CompressionDictionary.train(1, List.of("abc"), 0));
+        assertThrows(IllegalArgumentException.class, () -> CompressionDictionary.forId(Integer.MAX_VALUE));
+        assertThrows(IllegalStateException.class, () -> CompressionAlgorithms.DICTIONARY.compress(new byte[1]));
+    }
+
+    static String jsonFragment(Random random) {
+        return String.format("{\"orderId\":%d,\"customerId\":\"c-%05d\",\"status\":\"%s\",\"total\":%d.%02d,"
+                        + "\"shippingAddress\":{\"city\":\"%s\",\"zip\":\"%05d\"},\"express\":%b}",
+                random.nextInt(1000000), random.nextInt(100000), random.nextBoolean() ? "PAID" : "SHIPPED",
+                random.nextInt(1000), random.nextInt(100), CITIES[random.nextInt(CITIES.length)],
+                random.nextInt(100000), random.nextBoolean());
+    }
+}
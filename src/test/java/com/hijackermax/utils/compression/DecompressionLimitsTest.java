@@ -0,0 +1,43 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DecompressionLimitsTest {
+    @Test
+    void testMaxOutputBytes() {
+        DecompressionLimits limits = new DecompressionLimits(1000, 10);
+        assertEquals(1000, limits.getMaxOutputBytes());
+        assertEquals(10, limits.getMaxRatio());
+        assertEquals(10, limits.maxOutputBytes(0));
+        assertEquals(500, limits.maxOutputBytes(50));
+        assertEquals(1000, limits.maxOutputBytes(500));
+        assertEquals(Long.MAX_VALUE, DecompressionLimits.UNLIMITED.maxOutputBytes(Long.MAX_VALUE));
+        assertEquals(7, DecompressionLimits.ofMaxOutputBytes(7).maxOutputBytes(1));
+    }
+
+    @Test
+    void testCheck() {
+        DecompressionLimits limits = new DecompressionLimits(1000, 10);
+        assertDoesNotThrow(() -> limits.check(500, 50));
+        DecompressionLimitException ratioException = assertThrows(DecompressionLimitException.class, () -> limits.check(501, 50));
+        assertEquals(50, ratioException.getCompressedLength());
+        assertEquals(501, ratioException.getDecompressedLength());
+        assertEquals(10.02, ratioException.getRatio(), 1e-9);
+        assertTrue(ratioException.getMessage().contains("10.0"));
+        assertThrows(DecompressionLimitException.class, () -> limits.check(1001, 1000));
+        assertDoesNotThrow(() -> DecompressionLimits.UNLIMITED.check(Integer.MAX_VALUE, 1));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DecompressionLimits(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new DecompressionLimits(10, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new DecompressionLimits(10, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> DecompressionLimits.ofMaxOutputBytes(-1));
+    }
+}
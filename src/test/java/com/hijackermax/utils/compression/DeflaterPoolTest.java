@@ -0,0 +1,88 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeflaterPoolTest {
+    @Test
+    void testAcquireRelease() {
+        DeflaterPool pool = new DeflaterPool(2, 5, Deflater.FILTERED);
+        assertEquals(2, pool.getCapacity());
+        assertEquals(5, pool.getLevel());
+        assertEquals(Deflater.FILTERED, pool.getStrategy());
+        Deflater first = pool.acquire();
+        Deflater second = pool.acquire();
+        Deflater third = pool.acquire();
+        assertEquals(3, pool.getMisses());
+        assertEquals(0, pool.getHits());
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        assertEquals(2, pool.getIdleCount());
+        assertSame(first, pool.acquire());
+        assertSame(second, pool.acquire());
+        assertNotSame(third, pool.acquire());
+        assertEquals(2, pool.getHits());
+        assertEquals(4, pool.getMisses());
+    }
+
+    @Test
+    void testReleaseResetsDeflater() {
+        DeflaterPool pool = new DeflaterPool(1, Deflater.BEST_SPEED, Deflater.DEFAULT_STRATEGY);
+        Deflater deflater = pool.acquire();
+        deflater.setInput(new byte[100]);
+        deflater.finish();
+        deflater.deflate(new byte[100]);
+        assertTrue(deflater.finished());
+        pool.release(deflater);
+        Deflater reused = pool.acquire();
+        assertSame(deflater, reused);
+        assertEquals(0, reused.getBytesRead());
+        assertTrue(reused.needsInput());
+    }
+
+    @Test
+    void testClear() {
+        DeflaterPool pool = new DeflaterPool(4, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        List<Deflater> deflaters = new ArrayList<>();
+        IntStream.range(0, 3).forEach(idx -> deflaters.add(pool.acquire()));
+        deflaters.forEach(pool::release);
+        assertEquals(3, pool.getIdleCount());
+        pool.clear();
+        assertEquals(0, pool.getIdleCount());
+        assertThrows(NullPointerException.class, () -> deflaters.get(0).deflate(new byte[1]));
+    }
+
+    @Test
+    void testConcurrentUse() {
+        DeflaterPool pool = new DeflaterPool(2, Deflater.DEFAULT_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        ConcurrentHashMap<Deflater, Boolean> inUse = new ConcurrentHashMap<>();
+        IntStream.range(0, 10000).parallel().forEach(idx -> {
+            Deflater deflater = pool.acquire();
+            assertEquals(null, inUse.put(deflater, Boolean.TRUE));
+            inUse.remove(deflater);
+            pool.release(deflater);
+        });
+        assertEquals(10000, pool.getHits() + pool.getMisses());
+        assertTrue(pool.getIdleCount() <= 2);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DeflaterPool(-1, 1, Deflater.DEFAULT_STRATEGY));
+        assertThrows(IllegalArgumentException.class, () -> new DeflaterPool(10));
+        assertThrows(IllegalArgumentException.class, () -> new DeflaterPool(1, 1, 5));
+        assertSame(DeflaterPool.getDefault(), DeflaterPool.getDefault());
+    }
+}
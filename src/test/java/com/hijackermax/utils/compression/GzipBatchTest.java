@@ -0,0 +1,74 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GzipBatchTest {
+    @Test
+    void testRoundTrip() throws IOException {
+        Random random = new Random(23);
+        try (GzipBatch batch = new GzipBatch()) {
+            for (int length : new int[]{0, 1, 100, 5000, 100, 70000, 3}) {
+                byte[] source = GzipTest.textLike(random, length);
+                byte[] compressed = batch.compress(source);
+                assertArrayEquals(Gzip.compress(source), compressed);
+                assertArrayEquals(source, GzipTest.gunzip(compressed));
+                assertArrayEquals(source, batch.decompress(compressed));
+                assertArrayEquals(source, batch.decompress(GzipTest.gzip(source, 9)));
+            }
+        }
+    }
+
+    @Test
+    void testStrings() throws IOException {
+        try (GzipBatch batch = new GzipBatch()) {
+            for (String source : new String[]{"", "ascii", "Тест €", "😀 emoji", "broken \uD800 surrogate", "long ".repeat(1000)}) {
+                byte[] compressed = batch.compress(source);
+                assertArrayEquals(Gzip.compress(source.getBytes(StandardCharsets.UTF_8)), compressed);
+                assertEquals(new String(source.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8), batch.decompressToString(compressed));
+            }
+            assertEquals("builder", batch.decompressToString(batch.compress(new StringBuilder("builder"))));
+        }
+    }
+
+    @Test
+    void testPoolsReuse() throws IOException {
+        DeflaterPool deflaterPool = new DeflaterPool(1, Deflater.BEST_SPEED, Deflater.DEFAULT_STRATEGY);
+        InflaterPool inflaterPool = new InflaterPool(1);
+        try (GzipBatch batch = new GzipBatch(deflaterPool, inflaterPool)) {
+            for (int idx = 0; idx < 10; idx++) {
+                String source = "value " + idx;
+                assertEquals(source, batch.decompressToString(batch.compress(source)));
+            }
+        }
+        assertEquals(1, deflaterPool.getMisses());
+        assertEquals(1, inflaterPool.getMisses());
+        try (GzipBatch batch = new GzipBatch(deflaterPool, inflaterPool)) {
+            assertEquals("again", batch.decompressToString(batch.compress("again")));
+        }
+        assertEquals(1, deflaterPool.getHits());
+        assertEquals(1, inflaterPool.getHits());
+    }
+
+    @Test
+    void testMalformed() throws IOException {
+        try (GzipBatch batch = new GzipBatch()) {
+            byte[] compressed = batch.compress("malformed");
+            assertThrows(EOFException.class, () -> batch.decompress(new byte[0]));
+            byte[] corrupted = compressed.clone();
+            corrupted[corrupted.length - 5] ^= 1;
+            assertThrows(ZipException.class, () -> batch.decompress(corrupted));
+            assertEquals("malformed", batch.decompressToString(compressed));
+        }
+    }
+}
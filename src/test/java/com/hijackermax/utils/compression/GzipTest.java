@@ -0,0 +1,238 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GzipTest {
+    private static final int[] LENGTHS = {0, 1, 17, 1000, 65536, 65537, 300000};
+
+    @Test
+    void testCompressMatchesGzipOutputStream() throws IOException {
+        Random random = new Random(42);
+        for (int length : LENGTHS) {
+            byte[] source = textLike(random, length);
+            assertArrayEquals(withoutOs(gzip(source, Deflater.DEFAULT_COMPRESSION)), withoutOs(Gzip.compress(source)));
+            DeflaterPool bestCompressionPool = new DeflaterPool(Deflater.BEST_COMPRESSION);
+            assertArrayEquals(withoutOs(gzip(source, Deflater.BEST_COMPRESSION)),
+                    withoutOs(Gzip.compress(source, bestCompressionPool)));
+        }
+    }
+
+    @Test
+    void testCompressIncompressible() throws IOException {
+        Random random = new Random(7);
+        for (int length : LENGTHS) {
+            byte[] source = new byte[length];
+            random.nextBytes(source);
+            byte[] compressed = Gzip.compress(source);
+            assertArrayEquals(source, gunzip(compressed));
+            assertArrayEquals(source, Gzip.decompress(compressed));
+        }
+    }
+
+    @Test
+    void testDecompress() throws IOException {
+        Random random = new Random(11);
+        for (int length : LENGTHS) {
+            byte[] source = textLike(random, length);
+            assertArrayEquals(source, Gzip.decompress(gzip(source, Deflater.BEST_SPEED)));
+            assertArrayEquals(source, Gzip.decompress(Gzip.compress(source)));
+        }
+    }
+
+    @Test
+    void testDecompressConcatenatedMembers() throws IOException {
+        byte[] first = "First member ".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "second member".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = concat(Gzip.compress(first), Gzip.compress(second));
+        assertArrayEquals(concat(first, second), Gzip.decompress(compressed));
+        byte[] withGarbage = concat(compressed, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11});
+        assertArrayEquals(concat(first, second), Gzip.decompress(withGarbage));
+    }
+
+    @Test
+    void testDecompressOptionalHeaderFields() throws IOException {
+        byte[] source = "Header fields test".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = Gzip.compress(source);
+        byte[] extra = {4, 0, 'a', 'b', 'c', 'd'};
+        byte[] name = "file.txt\0".getBytes(StandardCharsets.US_ASCII);
+        byte[] comment = "comment\0".getBytes(StandardCharsets.US_ASCII);
+        byte[] header = concat(Arrays.copyOf(compressed, 10), concat(extra, concat(name, comment)));
+        header[3] = 4 | 8 | 16 | 2;
+        CRC32 crc = new CRC32();
+        crc.update(header);
+        int headerCrc = (int) crc.getValue();
+        byte[] withFields = concat(concat(header, new byte[]{(byte) headerCrc, (byte) (headerCrc >>> 8)}),
+                Arrays.copyOfRange(compressed, 10, compressed.length));
+        assertArrayEquals(source, gunzip(withFields));
+        assertArrayEquals(source, Gzip.decompress(withFields));
+        withFields[9] ^= 1;
+        assertThrows(ZipException.class, () -> Gzip.decompress(withFields));
+    }
+
+    @Test
+    void testDecompressInvalid() {
+        byte[] compressed = Gzip.compress("Some test data to compress".getBytes(StandardCharsets.UTF_8));
+        assertThrows(EOFException.class, () -> Gzip.decompress(new byte[0]));
+        assertThrows(ZipException.class, () -> Gzip.decompress("Not a gzip data".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(EOFException.class, () -> Gzip.decompress(Arrays.copyOf(compressed, compressed.length - 4)));
+        assertThrows(EOFException.class, () -> Gzip.decompress(Arrays.copyOf(compressed, 14)));
+        byte[] corruptedCrc = compressed.clone();
+        corruptedCrc[compressed.length - 6] ^= 1;
+        assertThrows(ZipException.class, () -> Gzip.decompress(corruptedCrc));
+        byte[] corruptedData = compressed.clone();
+        corruptedData[10] = (byte) 0xff;
+        assertThrows(ZipException.class, () -> Gzip.decompress(corruptedData));
+    }
+
+    @Test
+    void testDecompressForgedSize() throws IOException {
+        byte[] source = "Some test data to compress".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = Gzip.compress(source);
+        assertEquals(source.length, Gzip.decompressedLengthHint(compressed));
+        byte[] forged = compressed.clone();
+        Arrays.fill(forged, forged.length - 4, forged.length, (byte) 0x7f);
+        assertEquals(64 * 1024, Gzip.decompressedLengthHint(forged));
+        assertThrows(ZipException.class, () -> Gzip.decompress(forged));
+
+        byte[] large = new byte[300000];
+        new Random(3).nextBytes(large);
+        byte[] largeCompressed = Gzip.compress(large);
+        assertEquals(large.length, Gzip.decompressedLengthHint(largeCompressed));
+        assertArrayEquals(large, Gzip.decompress(largeCompressed));
+        Arrays.fill(largeCompressed, largeCompressed.length - 4, largeCompressed.length, (byte) 0x7f);
+        assertEquals(1024 * 1024, Gzip.decompressedLengthHint(largeCompressed));
+        assertThrows(ZipException.class, () -> Gzip.decompress(largeCompressed));
+    }
+
+    @Test
+    void testPoolsReuse() throws IOException {
+        DeflaterPool deflaterPool = new DeflaterPool(1, Deflater.BEST_SPEED, Deflater.DEFAULT_STRATEGY);
+        InflaterPool inflaterPool = new InflaterPool(1);
+        byte[] source = textLike(new Random(3), 5000);
+        for (int i = 0; i < 10; i++) {
+            assertArrayEquals(source, Gzip.decompress(Gzip.compress(source, deflaterPool), inflaterPool));
+        }
+        assertEquals(1, deflaterPool.getMisses());
+        assertEquals(9, deflaterPool.getHits());
+        assertEquals(1, inflaterPool.getMisses());
+        assertEquals(9, inflaterPool.getHits());
+        assertThrows(ZipException.class, () -> Gzip.decompress(new byte[10], inflaterPool));
+        assertEquals(1, inflaterPool.getIdleCount());
+    }
+
+    @Test
+    void testCompressParallel() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(13);
+            byte[] source = textLike(random, 300000);
+            for (int blockLength : new int[]{Gzip.MIN_BLOCK_LENGTH, 40000, 299999, Gzip.DEFAULT_BLOCK_LENGTH, 400000}) {
+                byte[] compressed = Gzip.compressParallel(source, pool, DeflaterPool.getDefault(), blockLength);
+                assertArrayEquals(source, gunzip(compressed));
+                assertArrayEquals(source, Gzip.decompress(compressed));
+            }
+            byte[] compressed = Gzip.compressParallel(source, pool);
+            assertTrue(compressed.length < Gzip.compress(source).length * 1.05);
+            byte[] randomBytes = new byte[100000];
+            random.nextBytes(randomBytes);
+            assertArrayEquals(randomBytes, gunzip(Gzip.compressParallel(randomBytes, pool, DeflaterPool.getDefault(), Gzip.MIN_BLOCK_LENGTH)));
+            assertArrayEquals(new byte[0], gunzip(Gzip.compressParallel(new byte[0], pool)));
+            assertThrows(IllegalArgumentException.class, () -> Gzip.compressParallel(source, pool, DeflaterPool.getDefault(), 0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> Gzip.compressParallel(source, pool, DeflaterPool.getDefault(), Gzip.MIN_BLOCK_LENGTH - 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testDecompressWithLimits() throws IOException {
+        byte[] bomb = Gzip.compress(new byte[100 * 1024 * 1024], DeflaterPool.getDefault());
+        assertTrue(bomb.length < 200 * 1024);
+        DecompressionLimitException exception = assertThrows(DecompressionLimitException.class,
+                () -> Gzip.decompress(bomb, InflaterPool.getDefault(), DecompressionLimits.ofMaxOutputBytes(64 * 1024)));
+        assertEquals(bomb.length, exception.getCompressedLength());
+        assertEquals(64 * 1024 + 1, exception.getDecompressedLength());
+        assertEquals((64 * 1024 + 1.0) / bomb.length, exception.getRatio(), 1e-9);
+        DecompressionLimitException ratioException = assertThrows(DecompressionLimitException.class,
+                () -> Gzip.decompress(bomb, InflaterPool.getDefault(), new DecompressionLimits(Long.MAX_VALUE, 100)));
+        assertTrue(ratioException.getDecompressedLength() <= bomb.length * 100L + 1);
+
+        byte[] source = textLike(new Random(17), 10000);
+        byte[] compressed = Gzip.compress(source, DeflaterPool.getDefault());
+        assertArrayEquals(source, Gzip.decompress(compressed, InflaterPool.getDefault(), DecompressionLimits.ofMaxOutputBytes(10000)));
+        assertThrows(DecompressionLimitException.class,
+                () -> Gzip.decompress(compressed, InflaterPool.getDefault(), DecompressionLimits.ofMaxOutputBytes(9999)));
+    }
+
+    @Test
+    void testCombineCrc32() {
+        byte[] source = textLike(new Random(21), 10000);
+        CRC32 crc = new CRC32();
+        crc.update(source);
+        for (int split : new int[]{0, 1, 4999, 10000}) {
+            CRC32 first = new CRC32();
+            first.update(source, 0, split);
+            CRC32 second = new CRC32();
+            second.update(source, split, source.length - split);
+            assertEquals(crc.getValue(), Gzip.combineCrc32(first.getValue(), second.getValue(), source.length - split));
+        }
+    }
+
+    static byte[] textLike(Random random, int length) {
+        String[] words = {"lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", " ", "\n"};
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return builder.substring(0, length).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    static byte[] gzip(byte[] source, int level) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzipOutputStream.write(source);
+        }
+        return outputStream.toByteArray();
+    }
+
+    static byte[] gunzip(byte[] source) throws IOException {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(source))) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static byte[] withoutOs(byte[] compressed) {
+        compressed[9] = 0;
+        return compressed;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
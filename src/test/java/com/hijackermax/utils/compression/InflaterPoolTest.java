@@ -0,0 +1,43 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.zip.Inflater;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InflaterPoolTest {
+    @Test
+    void testAcquireRelease() {
+        InflaterPool pool = new InflaterPool(1);
+        Inflater first = pool.acquire();
+        Inflater second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.getIdleCount());
+        assertSame(first, pool.acquire());
+        assertNotSame(second, pool.acquire());
+        assertEquals(1, pool.getHits());
+        assertEquals(3, pool.getMisses());
+    }
+
+    @Test
+    void testDisabledPooling() {
+        InflaterPool pool = new InflaterPool(0);
+        Inflater inflater = pool.acquire();
+        pool.release(inflater);
+        assertEquals(0, pool.getIdleCount());
+        assertNotSame(inflater, pool.acquire());
+        assertEquals(0, pool.getHits());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new InflaterPool(-1));
+        assertThrows(NullPointerException.class, () -> new InflaterPool(1).release(null));
+        assertSame(InflaterPool.getDefault(), InflaterPool.getDefault());
+    }
+}
@@ -0,0 +1,86 @@
+package com.hijackermax.utils.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Lz4BlockTest {
+    private static final String SOURCE = "Lorem ipsum dolor sit amet, lorem ipsum dolor sit amet, lorem ipsum dolor sit amet!";
+    private static final String REFERENCE_BLOCK =
+            "ff0e4c6f72656d20697073756d20646f6c6f722073697420616d65742c206c1c001e50616d657421";
+
+    @Test
+    void testCompressMatchesReference() {
+        byte[] source = SOURCE.getBytes(StandardCharsets.US_ASCII);
+        byte[] target = new byte[Lz4Block.maxCompressedLength(source.length)];
+        int length = Lz4Block.compress(source, 0, source.length, target, 0);
+        assertArrayEquals(fromHex(REFERENCE_BLOCK), Arrays.copyOf(target, length));
+    }
+
+    @Test
+    void testDecompressReference() {
+        byte[] block = fromHex(REFERENCE_BLOCK);
+        byte[] target = new byte[SOURCE.length() + 2];
+        Lz4Block.decompress(block, 0, block.length, target, 2, SOURCE.length());
+        assertEquals(SOURCE, new String(target, 2, SOURCE.length(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testRoundTrip() {
+        Random random = new Random(5);
+        for (int length : new int[]{0, 1, 12, 13, 14, 100, 4096, 70000, 300000}) {
+            for (int shape = 0; shape < 3; shape++) {
+                byte[] source = new byte[length];
+                if (0 == shape) {
+                    random.nextBytes(source);
+                } else if (1 == shape) {
+                    Arrays.fill(source, (byte) 'a');
+                } else {
+                    for (int idx = 0; idx < length; idx++) {
+                        source[idx] = (byte) random.nextInt(4);
+                    }
+                }
+                byte[] target = new byte[3 + Lz4Block.maxCompressedLength(length)];
+                int compressedLength = Lz4Block.compress(source, 0, length, target, 3);
+                assertTrue(compressedLength <= Lz4Block.maxCompressedLength(length));
+                byte[] decompressed = new byte[length];
+                Lz4Block.decompress(target, 3, compressedLength, decompressed, 0, length);
+                assertArrayEquals(source, decompressed);
+            }
+        }
+    }
+
+    @Test
+    void testDecompressMalformed() {
+        byte[] block = fromHex(REFERENCE_BLOCK);
+        byte[] target = new byte[SOURCE.length()];
+        assertThrows(IllegalArgumentException.class, () -> Lz4Block.decompress(block, 0, 0, target, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Lz4Block.decompress(block, 0, block.length - 1, target, 0, target.length));
+        assertThrows(IllegalArgumentException.class, () -> Lz4Block.decompress(block, 0, block.length, target, 0, target.length - 1));
+        assertThrows(IllegalArgumentException.class, () -> Lz4Block.decompress(block, 0, block.length, new byte[100], 0, 100));
+        byte[] invalidOffset = block.clone();
+        invalidOffset[SOURCE.indexOf(", l") + 5] = (byte) 0xff;
+        assertThrows(IllegalArgumentException.class, () -> Lz4Block.decompress(invalidOffset, 0, invalidOffset.length, target, 0, target.length));
+        byte[] zeroOffset = {0x10, 'a', 0x00, 0x00, 0x50, 'a', 'a', 'a', 'a', 'a'};
+        assertThrows(IllegalArgumentException.class, () -> Lz4Block.decompress(zeroOffset, 0, zeroOffset.length, new byte[14], 0, 14));
+        byte[] hugeLiterals = {(byte) 0xf0, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x00};
+        assertThrows(IllegalArgumentException.class, () -> Lz4Block.decompress(hugeLiterals, 0, hugeLiterals.length, target, 0, target.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> Lz4Block.decompress(block, 0, block.length + 1, target, 0, target.length));
+        assertThrows(IllegalArgumentException.class, () -> Lz4Block.maxCompressedLength(-1));
+    }
+
+    private static byte[] fromHex(String hex) {
+        byte[] result = new byte[hex.length() / 2];
+        for (int idx = 0; idx < result.length; idx++) {
+            result[idx] = (byte) Integer.parseInt(hex.substring(idx * 2, idx * 2 + 2), 16);
+        }
+        return result;
+    }
+}
@@ -1,8 +1,14 @@
 package com.hijackermax.utils.encoders;
 
+import org.junit.jupiter.api.Test;
+
 import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 class Base122Test extends AbstractEncoderTest {
     @Override
     Function<byte[], String> getEncoder() {
@@ -23,4 +29,17 @@ class Base122Test extends AbstractEncoderTest {
     String getEncodedSource() {
         return "*\u0019.7ύhr4[Ls\tHh5\u001B˧\u0003IA\fo7PL\u0017\u0011\u0005£\u0012\t+b1(P)-W ";
     }
+
+    @Test
+    void testEncodeDecodeIllegalChars() {
+        byte[] source = {0x00, 0x0A, 0x0D, 0x22, 0x26, 0x5C, 0x00};
+        String encoded = Base122.encode(source);
+        encoded.chars().forEach(nextChar -> assertEquals(-1, "\u0000\n\r\"&\\".indexOf(nextChar)));
+        assertArrayEquals(source, Base122.decode(encoded));
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Base122.decode("a\u0680"));
+    }
 }
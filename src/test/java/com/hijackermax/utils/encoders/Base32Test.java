@@ -1,8 +1,16 @@
 package com.hijackermax.utils.encoders;
 
+import org.junit.jupiter.api.Test;
+
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 class Base32Test extends AbstractEncoderTest {
 
     @Override
@@ -24,4 +32,52 @@ class Base32Test extends AbstractEncoderTest {
     String getEncodedSource() {
         return "AHJQ6X2KEHS6JVK764S38D9P6WW3JC26DXQM4RBJ45026915BRK2MA19BDEG";
     }
+
+    @Test
+    void testDecodeAliasesAndIgnoredChars() {
+        byte[] expected = Base32.decode("01AB-CD10");
+        assertArrayEquals(expected, Base32.decode("oIab cd\tl0"));
+        assertArrayEquals(expected, Base32.decode("O1AB\nCDLO"));
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Base32.decode("AHJQU"));
+        assertThrows(IllegalArgumentException.class, () -> Base32.decode("AHJQ_"));
+        assertThrows(IllegalArgumentException.class, () -> Base32.decode("AHJQЖ"));
+    }
+
+    @Test
+    void testEncodeLength() {
+        for (int length = 0; length < 16; length++) {
+            assertEquals((length * 8 + 4) / 5, Base32.encode(new byte[length]).length());
+        }
+    }
+
+    @Test
+    void testEncodeDecodeParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Random random = new Random(42);
+        try {
+            for (int length : new int[]{0, 1, 99, 1000, 4097, 10003}) {
+                byte[] source = new byte[length];
+                random.nextBytes(source);
+                for (int idx = 0; idx < length; idx += 7) {
+                    source[idx / 2] = 0x00;
+                }
+                String encoded = Base32.encode(source);
+                for (int threshold : new int[]{1, 7, 64, 1 << 20}) {
+                    assertEquals(encoded, Base32.encodeParallel(source, pool, threshold));
+                    assertArrayEquals(source, Base32.decodeParallel(encoded, pool, threshold));
+                    String formatted = encoded.replaceAll("(.{13})", "$1\n ");
+                    assertArrayEquals(source, Base32.decodeParallel(formatted, pool, threshold));
+                }
+            }
+            assertEquals(Base32.encode(getSourceForEncode()), Base32.encodeParallel(getSourceForEncode(), pool));
+            assertThrows(IllegalArgumentException.class, () -> Base32.encodeParallel(getSourceForEncode(), pool, 0));
+            assertThrows(IllegalArgumentException.class, () -> Base32.decodeParallel("AB_DEFGHIJ", pool, 2));
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -1,8 +1,18 @@
 package com.hijackermax.utils.encoders;
 
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 class Base58Test extends AbstractEncoderTest {
 
     @Override
@@ -24,4 +34,55 @@ class Base58Test extends AbstractEncoderTest {
     String getEncodedSource() {
         return "3q4DFPT8Jw8FG6jg9qdEpSaCvNBpejFY68kA6y6aacU2j8z18ig";
     }
+
+    @Test
+    void testLeadingOnesDecode() {
+        assertArrayEquals(new byte[]{0x00, 0x00, 0x3A}, Base58.decode("1121"));
+        assertArrayEquals(new byte[]{0x00, 0x00}, Base58.decode("11"));
+        assertEquals("21", Base58.encode(new byte[]{0x00, 0x3A}));
+        assertEquals("", Base58.encode(new byte[]{0x00, 0x00}));
+    }
+
+    @Test
+    void testLargeEncodeDecode() {
+        Random random = new Random(58);
+        for (int length : new int[]{1024, 2049, 10000}) {
+            byte[] source = new byte[length];
+            random.nextBytes(source);
+            source[0] = (byte) 0xFF;
+            String encoded = Base58.encode(source);
+            assertEquals(toBase58(new BigInteger(1, source)), encoded);
+            assertArrayEquals(source, Base58.decode(encoded));
+        }
+    }
+
+    @Test
+    void testIsValid() {
+        assertTrue(Base58.isValid(getEncodedSource()));
+        assertTrue(Base58.isValid(new StringBuilder("111z")));
+        assertFalse(Base58.isValid(null));
+        assertFalse(Base58.isValid(""));
+        assertFalse(Base58.isValid("3q4D0"));
+        assertFalse(Base58.isValid("3q4Dl"));
+        assertFalse(Base58.isValid("3q4D "));
+        assertFalse(Base58.isValid("3q4Dж"));
+    }
+
+    @Test
+    void testDecodeInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Base58.decode("3q4DO"));
+        assertThrows(IllegalArgumentException.class, () -> Base58.decode("3q4Dж"));
+    }
+
+    private static String toBase58(BigInteger value) {
+        char[] charset = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz".toCharArray();
+        StringBuilder result = new StringBuilder();
+        BigInteger fiftyEight = BigInteger.valueOf(58L);
+        while (value.signum() > 0) {
+            BigInteger[] quotientAndRemainder = value.divideAndRemainder(fiftyEight);
+            result.append(charset[quotientAndRemainder[1].intValue()]);
+            value = quotientAndRemainder[0];
+        }
+        return result.reverse().toString();
+    }
 }
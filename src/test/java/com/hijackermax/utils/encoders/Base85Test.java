@@ -1,7 +1,25 @@
 package com.hijackermax.utils.encoders;
 
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class Base85Test extends AbstractEncoderTest {
     @Override
@@ -23,4 +41,201 @@ class Base85Test extends AbstractEncoderTest {
     String getEncodedSource() {
         return "<+U,m;fm%oDJ([Z1c70M3&rZ^Df7sNEZm[m,UHbD.OZ`M>l";
     }
+
+    @Test
+    void testStreamingEncode() throws IOException {
+        byte[] source = getSourceForEncode();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        try (OutputStream encoderStream = Base85.encoder().wrap(target)) {
+            encoderStream.write(source, 0, 5);
+            encoderStream.write(source[5]);
+            encoderStream.write(source, 6, source.length - 6);
+        }
+        assertEquals(getEncodedSource(), target.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testStreamingDecode() throws IOException {
+        byte[] source = getEncodedSource().getBytes(StandardCharsets.US_ASCII);
+        try (InputStream decoderStream = Base85.decoder().wrap(new ByteArrayInputStream(source))) {
+            assertArrayEquals(getSourceForEncode(), decoderStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void testStreamingEncodeDecodeWithZeroes() {
+        IntStream.range(0, 24).forEach(length -> {
+            byte[] source = new byte[length];
+            for (int idx = 0; idx < length; idx += 3) {
+                source[idx] = (byte) idx;
+            }
+            try {
+                ByteArrayOutputStream target = new ByteArrayOutputStream();
+                try (OutputStream encoderStream = Base85.encoder().wrap(target)) {
+                    encoderStream.write(source);
+                }
+                String encoded = target.toString(StandardCharsets.US_ASCII);
+                assertEquals(Base85.encode(source), encoded);
+                try (InputStream decoderStream = Base85.decoder().wrap(new ByteArrayInputStream(target.toByteArray()))) {
+                    assertArrayEquals(source, decoderStream.readAllBytes());
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void testStreamingDecodeIgnoredChars() throws IOException {
+        byte[] source = "<+U,m;fm\n%oDJ([Z1c70 M3&rZ^\tDf7sNEZm[m,UHbD.OZ`M>l\n".getBytes(StandardCharsets.US_ASCII);
+        try (InputStream decoderStream = Base85.decoder().wrap(new ByteArrayInputStream(source))) {
+            assertArrayEquals(getSourceForEncode(), decoderStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void testStreamingDecodeInvalid() throws IOException {
+        byte[] source = "<+Uz,m;f".getBytes(StandardCharsets.US_ASCII);
+        try (InputStream decoderStream = Base85.decoder().wrap(new ByteArrayInputStream(source))) {
+            assertThrows(IOException.class, decoderStream::readAllBytes);
+        }
+    }
+
+    @Test
+    void testStreamingChunks() throws IOException {
+        byte[] source = new byte[100003];
+        new Random(5).nextBytes(source);
+        for (int idx = 0; idx < source.length; idx += 1000) {
+            Arrays.fill(source, idx, Math.min(idx + 12, source.length), (byte) 0);
+        }
+        int[] writes = new int[1];
+        ByteArrayOutputStream target = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] bytes, int offset, int length) {
+                writes[0]++;
+                super.write(bytes, offset, length);
+            }
+        };
+        Random random = new Random(6);
+        try (OutputStream encoderStream = Base85.encoder().wrap(target)) {
+            int position = 0;
+            while (position < source.length) {
+                int length = Math.min(source.length - position, random.nextInt(20000));
+                encoderStream.write(source, position, length);
+                position += length;
+                if (position < source.length) {
+                    encoderStream.write(source[position++]);
+                }
+            }
+            encoderStream.flush();
+            assertEquals(Base85.encode(Arrays.copyOf(source, 100000)), target.toString(StandardCharsets.US_ASCII));
+        }
+        assertEquals(Base85.encode(source), target.toString(StandardCharsets.US_ASCII));
+        assertTrue(writes[0] < 30);
+
+        int[] reads = new int[1];
+        InputStream countingSource = new ByteArrayInputStream(target.toByteArray()) {
+            @Override
+            public synchronized int read() {
+                reads[0]++;
+                return super.read();
+            }
+
+            @Override
+            public synchronized int read(byte[] bytes, int offset, int length) {
+                reads[0]++;
+                return super.read(bytes, offset, length);
+            }
+        };
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        try (InputStream decoderStream = Base85.decoder().wrap(countingSource)) {
+            byte[] buffer = new byte[7];
+            int length;
+            while (-1 != (length = decoderStream.read(buffer, 0, 1 + random.nextInt(buffer.length)))) {
+                decoded.write(buffer, 0, length);
+                int value = decoderStream.read();
+                if (-1 != value) {
+                    decoded.write(value);
+                }
+            }
+        }
+        assertArrayEquals(source, decoded.toByteArray());
+        assertTrue(reads[0] < 30);
+    }
+
+    @Test
+    void testEncodeInto() {
+        byte[] source = getSourceForEncode();
+        byte[] target = new byte[Base85.maxEncodedLength(source.length) + 3];
+        int length = Base85.encodeInto(source, 0, source.length, target, 3);
+        assertEquals(getEncodedSource(), new String(target, 3, length, StandardCharsets.US_ASCII));
+        assertThrows(IndexOutOfBoundsException.class, () -> Base85.encodeInto(source, 0, source.length, target, 4));
+    }
+
+    @Test
+    void testEncodeByteBuffer() {
+        byte[] source = getSourceForEncode();
+        int maxLength = Base85.maxEncodedLength(source.length);
+        for (ByteBuffer target : new ByteBuffer[]{ByteBuffer.allocate(maxLength), ByteBuffer.allocateDirect(maxLength)}) {
+            ByteBuffer sourceBuffer = ByteBuffer.allocateDirect(source.length).put(source).flip();
+            int length = Base85.encode(sourceBuffer, target);
+            assertEquals(0, sourceBuffer.remaining());
+            assertEquals(length, target.position());
+            byte[] encoded = new byte[length];
+            target.flip().get(encoded);
+            assertEquals(getEncodedSource(), new String(encoded, StandardCharsets.US_ASCII));
+        }
+        assertThrows(BufferOverflowException.class, () -> Base85.encode(ByteBuffer.wrap(source), ByteBuffer.allocate(maxLength - 1)));
+    }
+
+    @Test
+    void testMaxEncodedLength() {
+        assertEquals(0, Base85.maxEncodedLength(0));
+        assertEquals(2, Base85.maxEncodedLength(1));
+        assertEquals(5, Base85.maxEncodedLength(4));
+        assertEquals(9, Base85.maxEncodedLength(7));
+    }
+
+    @Test
+    void testEncodedLength() {
+        byte[] source = {0x00, 0x00, 0x00, 0x00, 0x01, 0x02, 0x03, 0x04, 0x00, 0x00};
+        assertEquals(9, Base85.encodedLength(source, 0, source.length));
+        assertEquals(Base85.encode(source).length(), Base85.encodedLength(source, 0, source.length));
+        assertEquals(5, Base85.encodedLength(source, 4, 4));
+        byte[] target = new byte[9];
+        assertEquals(9, Base85.encodeInto(source, 0, source.length, target, 0));
+        assertEquals(Base85.encode(source), new String(target, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testDecodeTrailingWhitespace() {
+        assertArrayEquals(getSourceForEncode(), Base85.decode(getEncodedSource() + " \n"));
+    }
+
+    @Test
+    void testEncodeDecodeParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Random random = new Random(42);
+        try {
+            for (int length : new int[]{0, 1, 99, 1000, 4097, 10003}) {
+                byte[] source = new byte[length];
+                random.nextBytes(source);
+                for (int idx = 0; idx < length; idx += 7) {
+                    source[idx / 2] = 0x00;
+                }
+                String encoded = Base85.encode(source);
+                for (int threshold : new int[]{1, 7, 64, 1 << 20}) {
+                    assertEquals(encoded, Base85.encodeParallel(source, pool, threshold));
+                    assertArrayEquals(source, Base85.decodeParallel(encoded, pool, threshold));
+                    String formatted = encoded.replaceAll("(.{13})", "$1\n ");
+                    assertArrayEquals(source, Base85.decodeParallel(formatted, pool, threshold));
+                }
+            }
+            assertEquals(Base85.encode(getSourceForEncode()), Base85.encodeParallel(getSourceForEncode(), pool));
+            assertThrows(IllegalArgumentException.class, () -> Base85.encodeParallel(getSourceForEncode(), pool, 0));
+            assertThrows(IllegalArgumentException.class, () -> Base85.decodeParallel("AB~DEFGHIJ", pool, 2));
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package com.hijackermax.utils.encoders;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CodecsTest {
+    private static final Set<String> DEFAULT_CODECS = Set.of("base32", "base58", "base64", "base85", "base122");
+
+    @Test
+    void testForName() {
+        assertTrue(Codecs.names().containsAll(DEFAULT_CODECS));
+        assertSame(Base85.codec(), Codecs.forName("base85"));
+        assertSame(Base122.codec(), Codecs.forName("Base122"));
+        assertSame(Codecs.BASE64, Codecs.forName("BASE64"));
+        assertThrows(IllegalArgumentException.class, () -> Codecs.forName("base36"));
+    }
+
+    @Test
+    void testRegister() {
+        assertFalse(Codecs.register(Base32.codec()));
+        BinaryTextCodec hexCodec = new BinaryTextCodec() {
+            @Override
+            public String name() {
+                return "Hex";
+            }
+
+            @Override
+            public String encode(byte[] source) {
+                StringBuilder result = new StringBuilder();
+                for (byte value : source) {
+                    result.append(String.format("%02x", value));
+                }
+                return result.toString();
+            }
+
+            @Override
+            public byte[] decode(String source) {
+                byte[] result = new byte[source.length() / 2];
+                for (int idx = 0; idx < result.length; idx++) {
+                    result[idx] = (byte) Integer.parseInt(source.substring(idx * 2, idx * 2 + 2), 16);
+                }
+                return result;
+            }
+
+            @Override
+            public int maxEncodedLength(int byteArrayLength) {
+                return byteArrayLength * 2;
+            }
+
+            @Override
+            public int maxDecodedLength(int encodedLength) {
+                return encodedLength / 2;
+            }
+        };
+        assertTrue(Codecs.register(hexCodec));
+        assertSame(hexCodec, Codecs.forName("hex"));
+        assertEquals("0aff", Codecs.forName("HEX").encode(new byte[]{0x0A, (byte) 0xFF}));
+    }
+
+    @Test
+    void testEncodeDecode() {
+        Random random = new Random(7);
+        for (String name : DEFAULT_CODECS) {
+            BinaryTextCodec codec = Codecs.forName(name);
+            for (int length = 1; length < 64; length++) {
+                byte[] source = new byte[length];
+                random.nextBytes(source);
+                source[0] = (byte) 0xFF;
+                String encoded = codec.encode(source);
+                assertTrue(encoded.length() <= codec.maxEncodedLength(length), name);
+                assertTrue(encoded.getBytes(codec.charset()).length <= codec.maxEncodedLength(length), name);
+                byte[] decoded = codec.decode(encoded);
+                assertTrue(decoded.length <= codec.maxDecodedLength(encoded.length()), name);
+                assertArrayEquals(source, decoded, name);
+            }
+        }
+    }
+
+    @Test
+    void testEncodeDecodeByteBuffer() {
+        byte[] source = {(byte) 0xFF, 0x00, 0x00, 0x00, 0x00, 0x0A, 0x22, 0x5C, 0x7F, 0x01};
+        for (String name : DEFAULT_CODECS) {
+            BinaryTextCodec codec = Codecs.forName(name);
+            ByteBuffer encoded = ByteBuffer.allocate(codec.maxEncodedLength(source.length));
+            codec.encode(ByteBuffer.wrap(source), encoded);
+            assertEquals(codec.encode(source), new String(encoded.array(), 0, encoded.position(), codec.charset()), name);
+            encoded.flip();
+            ByteBuffer decoded = ByteBuffer.allocateDirect(codec.maxDecodedLength(encoded.remaining()));
+            assertEquals(source.length, codec.decode(encoded, decoded), name);
+            assertFalse(encoded.hasRemaining(), name);
+            byte[] decodedBytes = new byte[source.length];
+            decoded.flip().get(decodedBytes);
+            assertArrayEquals(source, decodedBytes, name);
+            assertThrows(BufferOverflowException.class, () -> codec.encode(ByteBuffer.wrap(source), ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    void testStreams() throws IOException {
+        byte[] source = new byte[1000];
+        new Random(11).nextBytes(source);
+        source[0] = (byte) 0xFF;
+        for (String name : DEFAULT_CODECS) {
+            BinaryTextCodec codec = Codecs.forName(name);
+            ByteArrayOutputStream target = new ByteArrayOutputStream();
+            try (OutputStream encodingStream = codec.encodingStream(target)) {
+                encodingStream.write(source, 0, 333);
+                encodingStream.write(source, 333, source.length - 333);
+            }
+            assertEquals(codec.encode(source), target.toString(codec.charset()), name);
+            try (InputStream decodingStream = codec.decodingStream(new ByteArrayInputStream(target.toByteArray()))) {
+                assertArrayEquals(source, decodingStream.readAllBytes(), name);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hijackermax.utils.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AppendableOutputStreamTest {
+    @Test
+    void testWrite() throws IOException {
+        String source = IntStream.range(0, 5000)
+                .mapToObj(idx -> "Foo€Бар" + idx)
+                .collect(Collectors.joining());
+        byte[] sourceBytes = source.getBytes(StandardCharsets.UTF_8);
+        StringBuilder target = new StringBuilder();
+        try (OutputStream outputStream = new AppendableOutputStream(target, StandardCharsets.UTF_8)) {
+            outputStream.write(sourceBytes, 0, 10001);
+            outputStream.write(sourceBytes[10001]);
+            outputStream.write(sourceBytes, 10002, sourceBytes.length - 10002);
+        }
+        assertEquals(source, target.toString());
+    }
+
+    @Test
+    void testFlushSplitCharacter() throws IOException {
+        byte[] sourceBytes = "A€".getBytes(StandardCharsets.UTF_8);
+        StringWriter target = new StringWriter();
+        OutputStream outputStream = new AppendableOutputStream(target, StandardCharsets.UTF_8);
+        outputStream.write(sourceBytes, 0, 2);
+        outputStream.flush();
+        assertEquals("A", target.toString());
+        outputStream.write(sourceBytes, 2, 2);
+        outputStream.close();
+        assertEquals("A€", target.toString());
+        assertThrows(IOException.class, () -> outputStream.write(0x41));
+    }
+
+    @Test
+    void testMalformedInput() throws IOException {
+        StringBuilder target = new StringBuilder();
+        byte[] sourceBytes = {0x41, (byte) 0xE2, (byte) 0x82};
+        try (OutputStream outputStream = new AppendableOutputStream(target, StandardCharsets.UTF_8)) {
+            outputStream.write(sourceBytes);
+        }
+        assertEquals(new String(sourceBytes, StandardCharsets.UTF_8), target.toString());
+    }
+}
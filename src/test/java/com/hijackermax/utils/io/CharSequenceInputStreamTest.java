@@ -0,0 +1,51 @@
+package com.hijackermax.utils.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CharSequenceInputStreamTest {
+    @Test
+    void testReadAllBytes() throws IOException {
+        String source = IntStream.range(0, 5000)
+                .mapToObj(idx -> "Foo€Бар" + idx)
+                .collect(Collectors.joining());
+        try (InputStream inputStream = new CharSequenceInputStream(new StringBuilder(source), StandardCharsets.UTF_8)) {
+            assertArrayEquals(source.getBytes(StandardCharsets.UTF_8), inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void testReadSingleBytes() throws IOException {
+        try (InputStream inputStream = new CharSequenceInputStream("€A", StandardCharsets.UTF_8)) {
+            assertEquals(0xE2, inputStream.read());
+            assertEquals(0x82, inputStream.read());
+            assertEquals(0xAC, inputStream.read());
+            assertEquals('A', inputStream.read());
+            assertEquals(-1, inputStream.read());
+            assertEquals(-1, inputStream.read(new byte[4], 0, 4));
+        }
+    }
+
+    @Test
+    void testReadEmpty() throws IOException {
+        try (InputStream inputStream = new CharSequenceInputStream("", StandardCharsets.UTF_8)) {
+            assertEquals(-1, inputStream.read());
+        }
+    }
+
+    @Test
+    void testUnmappableCharacters() throws IOException {
+        String source = "Foo€Бар";
+        try (InputStream inputStream = new CharSequenceInputStream(source, StandardCharsets.US_ASCII)) {
+            assertArrayEquals(source.getBytes(StandardCharsets.US_ASCII), inputStream.readAllBytes());
+        }
+    }
+}
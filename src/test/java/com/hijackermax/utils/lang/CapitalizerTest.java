@@ -0,0 +1,119 @@
+package com.hijackermax.utils.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CapitalizerTest {
+    @Test
+    void testApply() {
+        Capitalizer capitalizer = Capitalizer.of(' ', '-');
+        assertEquals(StringUtils.EMPTY, capitalizer.apply(null));
+        assertEquals(StringUtils.EMPTY, capitalizer.apply(" \t "));
+        assertEquals("Foo Bar-Test", capitalizer.apply("FOO BAR-TEST"));
+        assertEquals("Foo Bar-Test", capitalizer.apply("  fOO bar-tEST\n"));
+        assertEquals("-Foo  Bar", capitalizer.apply("-foo  bar"));
+        assertEquals("Élan Vital-Ñu", capitalizer.apply("éLAN vITAL-ñu"));
+        assertEquals("1st Place", capitalizer.apply("1ST place"));
+    }
+
+    @Test
+    void testSameInstance() {
+        String capitalized = "Foo Bar-Test";
+        assertSame(capitalized, Capitalizer.of(' ', '-').apply(capitalized));
+        String source = "foo BAR";
+        assertSame(source, Capitalizer.of().apply(source));
+        assertSame(source, Capitalizer.of((char[]) null).apply(source));
+        assertEquals("Foo Bar", Capitalizer.of(' ').apply("  Foo Bar  "));
+    }
+
+    @Test
+    void testSupplementaryDelimiter() {
+        String delimiter = new String(Character.toChars(0x1F600));
+        Capitalizer capitalizer = Capitalizer.of(delimiter.toCharArray());
+        assertEquals("Foo" + delimiter + "Bar", capitalizer.apply("FOO" + delimiter + "bar"));
+        assertEquals("Foo bar", capitalizer.apply("FOO bar"));
+    }
+
+    @Test
+    void testCapitalizeAll() {
+        List<String> sources = new ArrayList<>(List.of("foo bar", "  ", "JOHN SMITH", "Anna Lee"));
+        sources.add(1, null);
+        assertEquals(
+                List.of("Foo Bar", StringUtils.EMPTY, StringUtils.EMPTY, "John Smith", "Anna Lee"),
+                Capitalizer.of(' ').capitalizeAll(sources)
+        );
+        assertEquals(List.of(), Capitalizer.of(' ').capitalizeAll(List.of()));
+        assertThrows(NullPointerException.class, () -> Capitalizer.of(' ').capitalizeAll(null));
+    }
+
+    @Test
+    void testTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals(reference("ILIK SU", ' '), Capitalizer.of(' ').apply("ILIK SU"));
+            assertEquals("Ilık Su", Capitalizer.of(' ').apply("ILIK SU"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void testMatchesReference() {
+        String alphabet = "aAzZiI .-_1\téÉǆİß";
+        char[][] delimiterSets = {{' '}, {' ', '-'}, {'.', '_', 'é'}, {'Ǆ', 'z'}};
+        Random random = new Random(7);
+        for (char[] delimiters : delimiterSets) {
+            Capitalizer capitalizer = Capitalizer.of(delimiters);
+            for (int attempt = 0; attempt < 500; attempt++) {
+                char[] chars = new char[1 + random.nextInt(16)];
+                for (int idx = 0; idx < chars.length; idx++) {
+                    chars[idx] = alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                String source = new String(chars);
+                assertEquals(reference(source, delimiters), capitalizer.apply(source),
+                        () -> source + " " + Arrays.toString(delimiters));
+                assertEquals(reference(source, delimiters), StringUtils.capitalize(source, delimiters));
+            }
+        }
+    }
+
+    private static String reference(String source, char... delimiters) {
+        if (StringUtils.isBlank(source)) {
+            return StringUtils.EMPTY;
+        }
+        Set<Integer> delimiterValues = IntStream.range(0, delimiters.length)
+                .mapToObj(idx -> Character.codePointAt(delimiters, idx))
+                .collect(Collectors.toSet());
+        String lowerCaseSource = source.trim().toLowerCase();
+        StringBuilder result = new StringBuilder();
+        boolean capitalizeNext = false;
+        for (int idx = 0; idx < lowerCaseSource.length(); ) {
+            int codePoint = lowerCaseSource.codePointAt(idx);
+            if (delimiterValues.contains(codePoint)) {
+                capitalizeNext = true;
+                result.appendCodePoint(codePoint);
+            } else if (capitalizeNext || 0 == idx) {
+                codePoint = Character.toTitleCase(codePoint);
+                result.appendCodePoint(codePoint);
+                capitalizeNext = false;
+            } else {
+                result.appendCodePoint(codePoint);
+            }
+            idx += Character.charCount(codePoint);
+        }
+        return result.toString();
+    }
+}
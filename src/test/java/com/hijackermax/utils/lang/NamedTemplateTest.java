@@ -0,0 +1,106 @@
+package com.hijackermax.utils.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NamedTemplateTest {
+    @Test
+    void testRender() {
+        NamedTemplate template = NamedTemplate.compile("Foo ${text_default?`bar`}: ${numeric%x} = ${numeric} ${numeric_default?`128`%x} % ${text} ${missing}");
+        Map<String, Object> values = Map.of("numeric", 255, "text", "Test");
+        assertEquals("Foo bar: ff = 255 128 % Test ${missing}", template.render(values));
+        assertEquals("Foo bar: ${numeric%x} = ${numeric} 128 % ${text} ${missing}", template.render(null));
+        assertEquals(List.of("text_default", "numeric", "numeric_default", "text", "missing"), List.copyOf(template.keys()));
+    }
+
+    @Test
+    void testRenderEdges() {
+        assertEquals(StringUtils.EMPTY, NamedTemplate.compile(StringUtils.EMPTY).render(Map.of()));
+        assertEquals("no tokens", NamedTemplate.compile("no tokens").render(Map.of("a", 1)));
+        assertEquals("12", NamedTemplate.compile("${a}${b}").render(Map.of("a", 1, "b", 2)));
+        assertEquals("x", NamedTemplate.compile("${a?``}x").render(Map.of()));
+        Map<String, Object> nullValue = new HashMap<>();
+        nullValue.put("a", null);
+        assertEquals("[def]", NamedTemplate.compile("[${a?`def`}]").render(nullValue));
+        assertEquals("${broken", NamedTemplate.compile("${broken").render(Map.of("broken", 1)));
+        assertEquals("${a}${a}", NamedTemplate.compile("${a}${a}").render(Map.of("a", "${a}")));
+        assertThrows(IllegalFormatException.class, () -> NamedTemplate.compile("${a%d}").render(Map.of("a", "text")));
+        assertThrows(NullPointerException.class, () -> NamedTemplate.compile(null));
+    }
+
+    @Test
+    void testRenderTo() throws IOException {
+        NamedTemplate template = NamedTemplate.compile("<${a}|${b?`-`}>");
+        StringBuilder builder = new StringBuilder("prefix");
+        template.renderTo(builder, Map.of("a", 1));
+        assertEquals("prefix<1|->", builder.toString());
+        StringWriter writer = new StringWriter();
+        template.renderTo(writer, Map.of("a", 2, "b", 3));
+        assertEquals("<2|3>", writer.toString());
+    }
+
+    @Test
+    void testCached() {
+        String source = "cached ${value}";
+        NamedTemplate template = NamedTemplate.cached(source);
+        assertSame(template, NamedTemplate.cached(source));
+        assertNotSame(template, NamedTemplate.compile(source));
+        assertEquals(source, template.getTemplate());
+        for (int idx = 0; idx <= NamedTemplate.MAX_CACHE_SIZE; idx++) {
+            assertEquals("v" + idx, NamedTemplate.cached("v" + idx + "${x?``}").render(Map.of()));
+        }
+    }
+
+    @Test
+    void testFormatSpecifiers() {
+        Random random = new Random(31);
+        List<String> formats = List.of("%s", "%d", "%x", "%08d", "%3d", "%.2f", "%.0f", "%.3f", "%,d", "%X", "%-6s", "%e", "%b");
+        List<Object> values = new ArrayList<>(List.of(0, -1, 7, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, (short) -3,
+                (byte) -1, 0.125, 1.005, 2.675, -0.001, -0.0, 0.5, 1e7, 123456789.987, Double.NaN, Float.NEGATIVE_INFINITY,
+                0.1f, 2.5f, BigInteger.TEN.pow(20), new BigDecimal("1.235"), "text", true, 'c'));
+        for (int idx = 0; idx < 60; idx++) {
+            values.add(random.nextInt());
+            values.add(random.nextLong() >> random.nextInt(64));
+            values.add((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 3));
+            values.add(Math.round(random.nextDouble() * 100000) / 1000.0);
+            values.add(random.nextFloat() * 1000);
+        }
+        Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            for (Locale locale : List.of(Locale.ROOT, Locale.GERMANY, new Locale("ar", "EG"), new Locale("hi", "IN", "u-nu-deva"))) {
+                Locale.setDefault(Locale.Category.FORMAT, locale);
+                for (String format : formats) {
+                    NamedTemplate template = NamedTemplate.compile("<${value" + format + "}>");
+                    for (Object value : values) {
+                        String expected;
+                        try {
+                            expected = "<" + String.format(format, value) + ">";
+                        } catch (IllegalFormatException e) {
+                            assertThrows(e.getClass(), () -> template.render(Map.of("value", value)));
+                            continue;
+                        }
+                        assertEquals(expected, template.render(Map.of("value", value)), () -> format + " " + value + " " + locale);
+                    }
+                }
+            }
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+        }
+    }
+}
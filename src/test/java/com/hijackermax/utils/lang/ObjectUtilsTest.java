@@ -1,11 +1,23 @@
 package com.hijackermax.utils.lang;
 
+import com.hijackermax.utils.compression.DecompressionLimitException;
+import com.hijackermax.utils.compression.DecompressionLimits;
+import com.hijackermax.utils.compression.DeflaterPool;
+import com.hijackermax.utils.compression.InflaterPool;
 import com.hijackermax.utils.encoders.Base122;
+import com.hijackermax.utils.encoders.BinaryTextCodec;
+import com.hijackermax.utils.encoders.Codecs;
 import com.hijackermax.utils.entities.Single;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.Deflater;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -53,6 +65,61 @@ class ObjectUtilsTest {
         assertArrayEquals(sourceBytes, decompressedBytes);
     }
 
+    @Test
+    void testCompressDecompressPooled() throws IOException {
+        byte[] sourceBytes = "Pooled compression test, pooled compression test".getBytes(StandardCharsets.UTF_8);
+        DeflaterPool deflaterPool = new DeflaterPool(1, Deflater.BEST_COMPRESSION, Deflater.DEFAULT_STRATEGY);
+        InflaterPool inflaterPool = new InflaterPool(1);
+        for (int i = 0; i < 3; i++) {
+            String compressed = ObjectUtils.compress(sourceBytes, Codecs.BASE64, deflaterPool);
+            assertArrayEquals(sourceBytes, ObjectUtils.decompress(compressed));
+            assertArrayEquals(sourceBytes, ObjectUtils.decompress(compressed, Codecs.BASE64, inflaterPool));
+        }
+        assertEquals(2, deflaterPool.getHits());
+        assertEquals(1, deflaterPool.getMisses());
+        assertEquals(2, inflaterPool.getHits());
+        assertEquals(StringUtils.EMPTY, ObjectUtils.compress(null, Codecs.BASE64, deflaterPool));
+        assertArrayEquals(new byte[0], ObjectUtils.decompress(null, Codecs.BASE64, inflaterPool));
+    }
+
+    @Test
+    void testCompressParallel() throws IOException {
+        byte[] sourceBytes = RandomUtils.randomStringSequence(500000, "abcdefgh €".toCharArray()).getBytes(StandardCharsets.UTF_8);
+        String compressed = ObjectUtils.compressParallel(sourceBytes, Codecs.BASE64, ForkJoinPool.commonPool());
+        assertArrayEquals(sourceBytes, ObjectUtils.decompress(compressed));
+        assertEquals(StringUtils.EMPTY, ObjectUtils.compressParallel(null, Codecs.BASE64, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    void testDecompressWithLimits() throws IOException {
+        byte[] sourceBytes = new byte[1024 * 1024];
+        String compressed = ObjectUtils.compress(sourceBytes);
+        assertArrayEquals(sourceBytes, ObjectUtils.decompress(compressed, Base64.getDecoder()::decode, sourceBytes.length));
+        DecompressionLimitException exception = assertThrows(DecompressionLimitException.class,
+                () -> ObjectUtils.decompress(compressed, Base64.getDecoder()::decode, 4096));
+        assertEquals(4097, exception.getDecompressedLength());
+        assertThrows(DecompressionLimitException.class,
+                () -> ObjectUtils.decompress(compressed, Base64.getDecoder()::decode, new DecompressionLimits(Long.MAX_VALUE, 100)));
+        assertArrayEquals(new byte[0], ObjectUtils.decompress(null, Base64.getDecoder()::decode, 0));
+        assertThrows(IllegalArgumentException.class, () -> ObjectUtils.decompress(compressed, Base64.getDecoder()::decode, -1));
+    }
+
+    @Test
+    void testCompressToDecompressFrom() throws IOException {
+        int length = 20000;
+        char[] chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ1234567890abcdefghijklmnopqrstuvwxyz<>%!@#$%^&*()_+-='\"/.[]ÆØÅÖÄåæøІіЇїЄєҐґ$€¥¢£₴".toCharArray();
+        byte[] sourceBytes = RandomUtils.randomStringSequence(length, chars).getBytes(StandardCharsets.UTF_8);
+        for (String codecName : List.of("base64", "base85", "base122")) {
+            BinaryTextCodec codec = Codecs.forName(codecName);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            ObjectUtils.compressTo(new ByteArrayInputStream(sourceBytes), compressed, codec);
+            assertArrayEquals(sourceBytes, ObjectUtils.decompress(compressed.toString(codec.charset()), codec));
+            ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+            ObjectUtils.decompressFrom(new ByteArrayInputStream(compressed.toByteArray()), decompressed, codec);
+            assertArrayEquals(sourceBytes, decompressed.toByteArray());
+        }
+    }
+
     @Test
     void testValueOrGetDefault() {
         assertEquals(5, ObjectUtils.valueOrGetDefault(null, () -> 5));
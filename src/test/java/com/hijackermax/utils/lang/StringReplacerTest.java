@@ -0,0 +1,96 @@
+package com.hijackermax.utils.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StringReplacerTest {
+    @Test
+    void testLeftmostLongest() {
+        StringReplacer replacer = StringReplacer.compile(Map.of("he", "1", "she", "2", "his", "3", "hers", "4"));
+        assertEquals("u2rs 2 3 4", replacer.apply("ushers she his hers"));
+        assertEquals("longd", StringReplacer.compile(Map.of("a", "short", "abc", "long", "bcd", "x")).apply("abcd"));
+        assertEquals("ax", StringReplacer.compile(Map.of("abcd", "long", "bc", "")).apply("abcx"));
+        assertEquals("[ab][ab]", StringReplacer.compile(Map.of("ab", "[ab]", "ba", "[ba]")).apply("abab"));
+    }
+
+    @Test
+    void testIndependentOfOrder() {
+        Map<CharSequence, CharSequence> forward = new LinkedHashMap<>();
+        forward.put("a", "b");
+        forward.put("b", "c");
+        Map<CharSequence, CharSequence> backward = new LinkedHashMap<>();
+        backward.put("b", "c");
+        backward.put("a", "b");
+        assertEquals("bc", StringReplacer.compile(forward).apply("ab"));
+        assertEquals("bc", StringReplacer.compile(backward).apply("ab"));
+    }
+
+    @Test
+    void testEdgeCases() {
+        String source = "no matches here";
+        assertSame(source, StringReplacer.compile(Map.of("zzz", "y")).apply(source));
+        assertSame(source, StringReplacer.compile(null).apply(source));
+        assertEquals(StringUtils.EMPTY, StringReplacer.compile(Map.of("a", "b")).apply(null));
+        assertEquals("ac", StringReplacer.compile(Map.of("", "x", "b", "")).apply("abc"));
+        assertEquals("Тест ✓", StringReplacer.compile(Map.of("Test", "Тест", "ok", "✓")).apply("Test ok"));
+        Map<CharSequence, CharSequence> nullValue = new HashMap<>();
+        nullValue.put("a", null);
+        assertThrows(NullPointerException.class, () -> StringReplacer.compile(nullValue));
+    }
+
+    @Test
+    void testAgainstNaive() {
+        Random random = new Random(41);
+        for (int round = 0; round < 300; round++) {
+            Map<CharSequence, CharSequence> replacements = new HashMap<>();
+            int patternsCount = 1 + random.nextInt(12);
+            for (int idx = 0; idx < patternsCount; idx++) {
+                replacements.put(randomText(random, 1 + random.nextInt(5)), "<" + idx + ">");
+            }
+            StringReplacer replacer = StringReplacer.compile(replacements);
+            for (int sample = 0; sample < 20; sample++) {
+                String source = randomText(random, random.nextInt(60));
+                assertEquals(naive(source, replacements), replacer.apply(source), () -> source + " " + replacements);
+            }
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int idx = 0; idx < length; idx++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+
+    private static String naive(String source, Map<CharSequence, CharSequence> replacements) {
+        if (source.isEmpty()) {
+            return StringUtils.EMPTY;
+        }
+        StringBuilder result = new StringBuilder();
+        int position = 0;
+        while (position < source.length()) {
+            String best = null;
+            for (CharSequence pattern : replacements.keySet()) {
+                if (source.startsWith(pattern.toString(), position) && (null == best || pattern.length() > best.length())) {
+                    best = pattern.toString();
+                }
+            }
+            if (null == best) {
+                result.append(source.charAt(position++));
+            } else {
+                result.append(replacements.get(best));
+                position += best.length();
+            }
+        }
+        return result.toString();
+    }
+}
@@ -1,17 +1,30 @@
 package com.hijackermax.utils.lang;
 
+import com.hijackermax.utils.compression.CompressionAlgorithm;
+import com.hijackermax.utils.compression.CompressionAlgorithms;
+import com.hijackermax.utils.compression.CompressionDictionary;
+import com.hijackermax.utils.compression.DecompressionLimitException;
+import com.hijackermax.utils.compression.DecompressionLimits;
 import com.hijackermax.utils.encoders.Base122;
+import com.hijackermax.utils.encoders.Base85;
+import com.hijackermax.utils.encoders.BinaryTextCodec;
+import com.hijackermax.utils.encoders.Codecs;
 import com.hijackermax.utils.entities.Single;
 import com.hijackermax.utils.entities.Tuple;
 import com.hijackermax.utils.enums.ComparisonOperators;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -21,6 +34,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StringUtilsTest {
@@ -215,6 +230,99 @@ class StringUtilsTest {
         assertEquals(testString, decompressedString);
     }
 
+    @Test
+    void testCompressDecompressCodec() throws IOException {
+        String testString = IntStream.range(0, 5000)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining());
+        BinaryTextCodec codec = Codecs.forName("base85");
+        String compressedString = StringUtils.compress(testString, codec);
+        assertEquals(StringUtils.compress(testString, Base85::encode), compressedString);
+        assertEquals(testString, StringUtils.decompress(compressedString, codec));
+    }
+
+    @Test
+    void testCompressDecompressAlgorithm() throws IOException {
+        String testString = IntStream.range(0, 1000)
+                .mapToObj(idx -> "Тест" + idx % 10)
+                .collect(Collectors.joining());
+        for (CompressionAlgorithm algorithm : List.of(CompressionAlgorithms.GZIP, CompressionAlgorithms.DEFLATE,
+                CompressionAlgorithms.LZ4, CompressionAlgorithms.STORED)) {
+            String compressed = StringUtils.compress(testString, Codecs.BASE64, algorithm);
+            assertEquals(testString, StringUtils.decompress(compressed));
+            assertEquals(testString, StringUtils.decompress(compressed, Codecs.BASE64));
+        }
+        assertEquals(StringUtils.compress(testString), StringUtils.compress(testString, Codecs.BASE64, CompressionAlgorithms.GZIP));
+    }
+
+    @Test
+    void testDecompressWithLimits() throws IOException {
+        String testString = "limit".repeat(10000);
+        String compressed = StringUtils.compress(testString, Base85::encode, CompressionAlgorithms.LZ4);
+        assertEquals(testString, StringUtils.decompress(compressed, Base85::decode, testString.length()));
+        assertThrows(DecompressionLimitException.class, () -> StringUtils.decompress(compressed, Base85::decode, 1000));
+        assertThrows(DecompressionLimitException.class,
+                () -> StringUtils.decompress(compressed, Base85::decode, new DecompressionLimits(Long.MAX_VALUE, 2)));
+        assertEquals(StringUtils.EMPTY, StringUtils.decompress(null, Base85::decode, DecompressionLimits.UNLIMITED));
+    }
+
+    @Test
+    void testCompressDecompressAll() throws IOException {
+        List<String> sources = IntStream.range(0, 500)
+                .mapToObj(idx -> idx % 50 == 0 ? null : "{\"id\":" + idx + ",\"name\":\"Тест" + idx + "\"}")
+                .collect(Collectors.toList());
+        List<String> compressed = StringUtils.compressAll(sources, Codecs.BASE64);
+        assertEquals(sources.size(), compressed.size());
+        for (int idx = 0; idx < sources.size(); idx++) {
+            String source = sources.get(idx);
+            assertEquals(null == source ? StringUtils.EMPTY : StringUtils.compress(source, Codecs.BASE64), compressed.get(idx));
+        }
+        List<String> expected = sources.stream().map(source -> null == source ? StringUtils.EMPTY : source).collect(Collectors.toList());
+        assertEquals(expected, StringUtils.decompressAll(compressed, Codecs.BASE64));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(compressed, StringUtils.compressAllParallel(sources, Codecs.BASE64, pool));
+            assertEquals(expected, StringUtils.decompressAllParallel(compressed, Codecs.BASE64, pool));
+            assertEquals(List.of(), StringUtils.compressAllParallel(List.of(), Codecs.BASE64, pool));
+            List<String> malformed = new ArrayList<>(compressed);
+            malformed.set(321, Codecs.BASE64.encode(new byte[]{0x1f, 0x00}));
+            assertThrows(IOException.class, () -> StringUtils.decompressAllParallel(malformed, Codecs.BASE64, pool));
+        } finally {
+            pool.shutdown();
+        }
+        List<String> mixed = List.of(StringUtils.compress("lz4 data", Codecs.BASE64, CompressionAlgorithms.LZ4), compressed.get(1));
+        assertEquals(List.of("lz4 data", expected.get(1)), StringUtils.decompressAll(mixed, Codecs.BASE64));
+    }
+
+    @Test
+    void testCompressDecompressDictionary() throws IOException {
+        List<String> samples = IntStream.range(0, 50)
+                .mapToObj(idx -> String.format("{\"id\":%d,\"name\":\"user%d\",\"active\":true}", idx, idx))
+                .collect(Collectors.toList());
+        CompressionDictionary dictionary = CompressionDictionary.train(77, samples);
+        CompressionDictionary.register(dictionary);
+        String testString = "{\"id\":1000,\"name\":\"user1000\",\"active\":true}";
+        String compressed = StringUtils.compress(testString, Base85::encode, CompressionAlgorithms.dictionary(dictionary));
+        assertEquals(testString, StringUtils.decompress(compressed, Base85::decode));
+        assertTrue(compressed.length() < StringUtils.compress(testString, Base85::encode).length() / 2);
+    }
+
+    @Test
+    void testCompressToDecompressFrom() throws IOException {
+        String testString = IntStream.range(0, 50000)
+                .mapToObj(idx -> idx + "€")
+                .collect(Collectors.joining());
+        for (String codecName : List.of("base64", "base85", "base122")) {
+            BinaryTextCodec codec = Codecs.forName(codecName);
+            StringBuilder compressed = new StringBuilder();
+            StringUtils.compressTo(testString, compressed, codec);
+            assertEquals(testString, StringUtils.decompress(compressed.toString(), codec));
+            StringWriter decompressed = new StringWriter();
+            StringUtils.decompressFrom(compressed, decompressed, codec);
+            assertEquals(testString, decompressed.toString());
+        }
+    }
+
     @Test
     void testCompressDecompressSizeDifference() throws IOException {
         String testString = IntStream.range(0, 5000)
@@ -259,6 +367,62 @@ class StringUtilsTest {
         assertEquals("       xc v b n m ,  ", StringUtils.removeDigits("    0   x1c 2v3 b4 n5 m6 ,7  "));
     }
 
+    @Test
+    void testRemoveCharsSameInstance() {
+        String digits = "0123.456";
+        String letters = "Foo,Bar\u0663";
+        assertSame(digits, StringUtils.removeNonDigits(digits));
+        assertSame(letters, StringUtils.removeDigits(letters));
+        assertSame(letters, StringUtils.removeWhitespaces(letters));
+        assertEquals("0123.456", StringUtils.removeNonDigits("x0123.456\u0663"));
+        assertEquals("Foo\u00a0Bar", StringUtils.removeWhitespaces(" Foo\u00a0Bar\t\n\u000B\f\r"));
+    }
+
+    @Test
+    void testRemoveCharsFromCharSequence() throws IOException {
+        assertEquals(StringUtils.EMPTY, StringUtils.removeNonDigits((CharSequence) null));
+        assertEquals(StringUtils.EMPTY, StringUtils.removeDigits(new StringBuilder("  ")));
+        assertEquals("1234567", StringUtils.removeNonDigits(new StringBuilder("x1c2v3b4n5m6,7")));
+        assertEquals("xcvbnm,", StringUtils.removeDigits(new StringBuilder("x1c2v3b4n5m6,7")));
+        assertEquals("Foo", StringUtils.removeWhitespaces(new StringBuilder(" F o o ")));
+
+        StringBuilder target = new StringBuilder("> ");
+        StringUtils.removeNonDigits("    0   x1c 2v3 b4 n5 m6 ,7  ", target);
+        StringUtils.removeDigits(new StringBuilder(" x1c2v3b4n5m6,7"), target);
+        StringUtils.removeWhitespaces(" F o o ", target);
+        StringUtils.removeWhitespaces(StringUtils.BLANK, target);
+        StringUtils.removeDigits((CharSequence) null, target);
+        assertEquals("> 01234567 xcvbnm,Foo", target.toString());
+
+        StringWriter writer = new StringWriter();
+        StringUtils.removeWhitespaces("Hello World", writer);
+        assertEquals("HelloWorld", writer.toString());
+        assertThrows(NullPointerException.class, () -> StringUtils.removeDigits("1", null));
+    }
+
+    @Test
+    void testRemoveCharsMatchesRegex() {
+        Pattern whitespaces = Pattern.compile("\\s+");
+        Pattern nonDigits = Pattern.compile("[^\\d.]");
+        Pattern digits = Pattern.compile("[^\\D.]");
+        String alphabet = "09.5x, \t\n\u000B\f\r\u00a0\u2003\u0663\u00e9";
+        Random random = new Random(42);
+        for (int attempt = 0; attempt < 500; attempt++) {
+            char[] chars = new char[1 + random.nextInt(24)];
+            for (int idx = 0; idx < chars.length; idx++) {
+                chars[idx] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            String source = new String(chars);
+            String expectedWhitespaces = source.isBlank() ? StringUtils.EMPTY : whitespaces.matcher(source).replaceAll(StringUtils.EMPTY);
+            String expectedNonDigits = source.isBlank() ? StringUtils.EMPTY : nonDigits.matcher(source).replaceAll(StringUtils.EMPTY);
+            String expectedDigits = source.isBlank() ? StringUtils.EMPTY : digits.matcher(source).replaceAll(StringUtils.EMPTY);
+            assertEquals(expectedWhitespaces, StringUtils.removeWhitespaces(source));
+            assertEquals(expectedNonDigits, StringUtils.removeNonDigits(source));
+            assertEquals(expectedDigits, StringUtils.removeDigits(source));
+            assertEquals(expectedDigits, StringUtils.removeDigits(new StringBuilder(source)));
+        }
+    }
+
     @Test
     void testReplace() {
         Map<CharSequence, CharSequence> replacements = Map.of("Hello", "Foo", "World", "Bar", "Red", "Green");
@@ -281,6 +445,24 @@ class StringUtilsTest {
         assertEquals("Red Apple", StringUtils.replaceIgnoreCase("Red Apple", null, null));
         assertEquals("Foo TEST Value", StringUtils.replaceIgnoreCase("heLLo TEST Value", "Hello", "Foo"));
         assertEquals("Green Apple", StringUtils.replaceIgnoreCase("RED Apple", "Red", "Green"));
+        assertEquals("x a+b x", StringUtils.replaceIgnoreCase("a.B a+b A.b", "A.b", "x"));
+        assertEquals("$1 and \\ and $1", StringUtils.replaceIgnoreCase("(a) and \\ and (A)", "(a)", "$1"));
+        assertEquals("ok ok", StringUtils.replaceIgnoreCase("ТЕСТ тест", "Тест", "ok"));
+        assertEquals("xx", StringUtils.replaceIgnoreCase("aaaa", "AA", "x"));
+        String unchanged = "nothing to replace";
+        assertSame(unchanged, StringUtils.replaceIgnoreCase(unchanged, "missing", "x"));
+        assertEquals(StringUtils.EMPTY, StringUtils.replaceIgnoreCase(" ", "a", "b"));
+    }
+
+    @Test
+    void testReplaceIgnoreCaseUnaryOperator() {
+        UnaryOperator<String> replacer = StringUtils.replaceIgnoreCase("Hello", "Foo");
+        assertEquals(StringUtils.EMPTY, replacer.apply(null));
+        assertEquals("Foo TEST Foo", replacer.apply("heLLo TEST HELLO"));
+        assertEquals("Foo", replacer.apply("Foo"));
+        assertEquals("Red Apple", StringUtils.replaceIgnoreCase(null, "x").apply("Red Apple"));
+        assertEquals("Red Apple", StringUtils.replaceIgnoreCase("Red", "").apply("Red Apple"));
+        assertEquals("?*? Apple", StringUtils.replaceIgnoreCase("[rEd]", "?*?").apply("[RED] Apple"));
     }
 
     @Test
@@ -511,4 +693,47 @@ class StringUtilsTest {
         assertEquals("0, 2, 3, 4, 5@6, 7, 8, 9, 12", StringUtils.joinGroup(integers, String::valueOf, ", ", "@", 5));
         assertEquals("0, 2@3, 4@5, 6@7, 8@9, 12", StringUtils.joinGroup(integers, String::valueOf, ", ", "@", 2));
     }
+
+    @Test
+    void testJoinMappedGroupWithEmptyValues() {
+        List<String> values = new ArrayList<>(List.of("a", " ", "b", " c ", "", "  ", "d"));
+        values.add(1, null);
+        assertEquals("a;b,c;;d", StringUtils.joinGroup(values, Function.identity(), ",", ";", 2));
+        assertEquals("a,b;c;d", StringUtils.joinGroup(values, Function.identity(), ",", ";", 3));
+    }
+
+    @Test
+    void testJoinTo() throws IOException {
+        List<Integer> sourceList = new ArrayList<>(List.of(1, 0, 46, 7, 22, 55, 33));
+        sourceList.add(3, null);
+        StringBuilder builder = new StringBuilder("> ");
+        StringUtils.joinTo(null, builder, ", ", String::valueOf);
+        StringUtils.joinTo(Collections.<Integer>emptyList(), builder, ", ", String::valueOf);
+        StringUtils.joinTo(sourceList, builder, ", ", String::valueOf);
+        assertEquals("> 1, 0, 46, 7, 22, 55, 33", builder.toString());
+
+        StringWriter writer = new StringWriter();
+        StringUtils.joinTo(List.of("Foo", "", "Bar", "Test"), writer, "$");
+        assertEquals("Foo$Bar$Test", writer.toString());
+        assertThrows(NullPointerException.class, () -> StringUtils.joinTo(List.of("Foo"), null, "$"));
+    }
+
+    @Test
+    void testJoinGroupTo() throws IOException {
+        List<String> strings = List.of("$", "1", "2", "3", "4", "5", "6", "7", "8", "9", "");
+        StringWriter writer = new StringWriter();
+        StringUtils.joinGroupTo(null, writer, ",", ";", 1);
+        StringUtils.joinGroupTo(List.of("Test", "Foo"), writer, ",", ";", 0);
+        assertEquals(StringUtils.EMPTY, writer.toString());
+        StringUtils.joinGroupTo(strings, writer, ", ", "@", 5);
+        assertEquals("$, 1, 2, 3, 4@5, 6, 7, 8, 9", writer.toString());
+
+        List<Integer> integers = List.of(0, 2, 3, 4, 5, 6, 7, 8, 9, 12);
+        StringBuilder builder = new StringBuilder();
+        StringUtils.joinGroupTo(integers, builder, String::valueOf, ", ", "@", 2);
+        assertEquals("0, 2@3, 4@5, 6@7, 8@9, 12", builder.toString());
+        builder.setLength(0);
+        StringUtils.joinGroupTo(integers, builder, String::valueOf, ", ", "@", -1);
+        assertEquals(StringUtils.EMPTY, builder.toString());
+    }
 }